@@ -0,0 +1,170 @@
+package com.boatupgrades;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Skill;
+import net.runelite.client.config.ConfigGroup;
+import net.runelite.client.config.ConfigItem;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offline stand-ins for the RuneLite objects the benchmarks need
+ */
+final class BenchmarkStubs
+{
+    private BenchmarkStubs() {}
+
+    static BoatUpgradesConfig config()
+    {
+        return config(false, false, false);
+    }
+
+    static BoatUpgradesConfig config(boolean filterSchematic, boolean filterConstruction, boolean hideLowerTiers)
+    {
+        // Every other config item keeps its interface default, like an untouched ConfigManager proxy
+        return new BoatUpgradesConfig()
+        {
+            @Override
+            public boolean filterSchematicRequirement()
+            {
+                return filterSchematic;
+            }
+
+            @Override
+            public boolean filterConstructionRequirement()
+            {
+                return filterConstruction;
+            }
+
+            @Override
+            public boolean hideLowerTiers()
+            {
+                return hideLowerTiers;
+            }
+
+            @Override
+            public boolean showSalvagingHook()
+            {
+                return true;
+            }
+
+            @Override
+            public boolean showCargoHold()
+            {
+                return true;
+            }
+
+            @Override
+            public boolean showCannon()
+            {
+                return true;
+            }
+
+            @Override
+            public void setLastSeenChangelogVersion(String value)
+            {
+            }
+
+            @Override
+            public void setMyList(String value)
+            {
+            }
+
+            @Override
+            public void setMaterialItemIds(String value)
+            {
+            }
+        };
+    }
+
+    /**
+     * A BoatUpgradesConfig proxy dispatching like RuneLite's ConfigManager: each call resolves the item key,
+     * looks up "group.key" in a string store and parses the stored value, falling back to the interface default
+     */
+    static BoatUpgradesConfig proxyConfig(Map<String, String> values)
+    {
+        final String group = BoatUpgradesConfig.class.getAnnotation(ConfigGroup.class).value();
+        final Map<String, String> store = new ConcurrentHashMap<>();
+        values.forEach((key, value) -> store.put(group + "." + key, value));
+
+        return (BoatUpgradesConfig) Proxy.newProxyInstance(
+                BenchmarkStubs.class.getClassLoader(),
+                new Class<?>[]{BoatUpgradesConfig.class},
+                (proxy, method, args) ->
+                {
+                    ConfigItem item = method.getAnnotation(ConfigItem.class);
+                    if (item == null || method.getParameterCount() > 0)
+                    {
+                        return null;
+                    }
+
+                    String value = store.get(group + "." + item.keyName());
+                    if (value == null)
+                    {
+                        return MethodHandles.privateLookupIn(BoatUpgradesConfig.class, MethodHandles.lookup())
+                                .unreflectSpecial(method, BoatUpgradesConfig.class)
+                                .bindTo(proxy)
+                                .invoke();
+                    }
+
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class)
+                    {
+                        return Boolean.parseBoolean(value);
+                    }
+                    if (type == int.class)
+                    {
+                        return Integer.parseInt(value);
+                    }
+                    return value;
+                }
+        );
+    }
+
+    /**
+     * A Client that answers varbit reads from the given map, reports the same boosted level for
+     * sailing and construction and returns a nameless definition for every object
+     */
+    static Client client(Map<Integer, Integer> varbits, int level)
+    {
+        final ObjectComposition definition = (ObjectComposition) Proxy.newProxyInstance(
+                BenchmarkStubs.class.getClassLoader(),
+                new Class<?>[]{ObjectComposition.class},
+                (proxy, method, args) -> "getName".equals(method.getName()) ? "null" : null
+        );
+
+        return (Client) Proxy.newProxyInstance(
+                BenchmarkStubs.class.getClassLoader(),
+                new Class<?>[]{Client.class},
+                (proxy, method, args) ->
+                {
+                    switch (method.getName())
+                    {
+                        case "getVarbitValue":
+                            return varbits.getOrDefault((Integer) args[0], 0);
+                        case "getBoostedSkillLevel":
+                        case "getRealSkillLevel":
+                            return args[0] == Skill.SAILING || args[0] == Skill.CONSTRUCTION ? level : 1;
+                        case "getObjectDefinition":
+                            return definition;
+                        default:
+                            return null;
+                    }
+                }
+        );
+    }
+
+    static GameObject gameObject(int id)
+    {
+        return (GameObject) Proxy.newProxyInstance(
+                BenchmarkStubs.class.getClassLoader(),
+                new Class<?>[]{GameObject.class},
+                (proxy, method, args) -> "getId".equals(method.getName()) ? id : null
+        );
+    }
+}
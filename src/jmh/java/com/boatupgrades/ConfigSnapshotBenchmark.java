@@ -0,0 +1,87 @@
+package com.boatupgrades;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per option config reads of the visibility filter, made through a ConfigManager style proxy versus
+ * a ConfigSnapshot, plus the cost of rebuilding the snapshot that is paid once per ConfigChanged
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigSnapshotBenchmark
+{
+    private BoatUpgradesConfig proxyConfig;
+    private ConfigSnapshot snapshot;
+    private List<UpgradeData.UpgradeOption> options;
+
+    @Setup
+    public void setUp()
+    {
+        Map<String, String> values = new HashMap<>();
+        values.put("showCannon", "true");
+        values.put("showCargoHold", "true");
+
+        proxyConfig = BenchmarkStubs.proxyConfig(values);
+        snapshot = ConfigSnapshot.of(proxyConfig);
+        options = UpgradeData.options();
+    }
+
+    @Benchmark
+    public int proxyReadsPerOption()
+    {
+        int shown = 0;
+        for (UpgradeData.UpgradeOption opt : options)
+        {
+            if (!proxyConfig.filterSchematicRequirement()
+                    && !proxyConfig.filterConstructionRequirement()
+                    && !proxyConfig.hideLowerTiers()
+                    && proxyConfig.showCannon())
+            {
+                shown++;
+            }
+        }
+        return shown;
+    }
+
+    @Benchmark
+    public int snapshotReadsPerOption()
+    {
+        int shown = 0;
+        for (UpgradeData.UpgradeOption opt : options)
+        {
+            final ConfigSnapshot config = snapshot;
+            if (!config.filterSchematicRequirement
+                    && !config.filterConstructionRequirement
+                    && !config.hideLowerTiers
+                    && config.isPartEnabled(opt.part))
+            {
+                shown++;
+            }
+        }
+        return shown;
+    }
+
+    @Benchmark
+    public ConfigSnapshot snapshotRebuild()
+    {
+        return ConfigSnapshot.of(proxyConfig);
+    }
+}
@@ -0,0 +1,166 @@
+package com.boatupgrades;
+
+import net.runelite.api.GameObject;
+import net.runelite.api.gameval.ObjectID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FacilityService.processSceneGameObject over a boat scene sized stream of objects,
+ * where most objects are hull pieces and decorations that match no facility.
+ * The classify benchmarks compare the id lookup table against the boxed Set chain it replaced,
+ * using misses taken from inside the facility id range so the bounds check cannot short circuit them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacilityDetectionBenchmark
+{
+    private static final int SCENE_OBJECTS = 256;
+
+    private static final int[] FACILITY_IDS = {
+            ObjectID.SALVAGING_HOOK_LARGE_RUNE,
+            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE,
+            ObjectID.SAILING_RUNE_CANNON,
+            ObjectID.SAILING_TELEPORTATION_FOCUS_GREATER,
+            ObjectID.SAILING_GALE_CATCHER_ACTIVATED,
+            ObjectID.SAILING_COTTON_TRAWLING_NET_3X8_PORT,
+            ObjectID.CHUM_SPREADER_3X8A,
+            ObjectID.SAILING_FATHOM_PEARL,
+            ObjectID.SAILING_FACILITY_RANGE,
+            ObjectID.SAILING_KEG_GROG,
+            ObjectID.SAILING_ANCHOR_RAISED_3X8,
+            ObjectID.SAILING_BOAT_SLOOP_ETERNAL_BRAZIER
+    };
+
+    private FacilityService facilityService;
+    private GameObject[] misses;
+    private GameObject[] scene;
+    private int[] rangeMissIds;
+    private List<Set<Integer>> legacySets;
+
+    @Setup
+    public void setUp()
+    {
+        facilityService = new FacilityService(BenchmarkStubs.client(new HashMap<>(), 99), null);
+
+        Random random = new Random(1234);
+
+        misses = new GameObject[SCENE_OBJECTS];
+        for (int i = 0; i < misses.length; i++)
+        {
+            misses[i] = BenchmarkStubs.gameObject(randomNonFacilityId(random));
+        }
+
+        // One facility every ~20 objects, roughly what a fully fitted sloop looks like
+        scene = misses.clone();
+        for (int i = 0; i < FACILITY_IDS.length; i++)
+        {
+            scene[i * (SCENE_OBJECTS / FACILITY_IDS.length)] = BenchmarkStubs.gameObject(FACILITY_IDS[i]);
+        }
+
+        legacySets = new ArrayList<>();
+        int minId = Integer.MAX_VALUE;
+        int maxId = Integer.MIN_VALUE;
+        for (int[] facility : FacilityService.FACILITY_OBJECTS)
+        {
+            Set<Integer> ids = new HashSet<>();
+            for (int i = 2; i < facility.length; i++)
+            {
+                ids.add(facility[i]);
+                minId = Math.min(minId, facility[i]);
+                maxId = Math.max(maxId, facility[i]);
+            }
+            legacySets.add(Set.copyOf(ids));
+        }
+
+        rangeMissIds = new int[SCENE_OBJECTS];
+        for (int i = 0; i < rangeMissIds.length; i++)
+        {
+            int id;
+            do
+            {
+                id = minId + random.nextInt(maxId - minId + 1);
+            }
+            while (FacilityService.classifyObject(id) != 0);
+            rangeMissIds[i] = id;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCENE_OBJECTS)
+    public void missOnly()
+    {
+        for (GameObject go : misses)
+        {
+            facilityService.processSceneGameObject(go);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCENE_OBJECTS)
+    public void boatScene()
+    {
+        for (GameObject go : scene)
+        {
+            facilityService.processSceneGameObject(go);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCENE_OBJECTS)
+    public int classifyRangeMiss()
+    {
+        int hits = 0;
+        for (int id : rangeMissIds)
+        {
+            hits += FacilityService.classifyObject(id);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCENE_OBJECTS)
+    public int legacySetChainRangeMiss()
+    {
+        int hits = 0;
+        for (int id : rangeMissIds)
+        {
+            for (Set<Integer> ids : legacySets)
+            {
+                if (ids.contains(id))
+                {
+                    hits++;
+                    break;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private static int randomNonFacilityId(Random random)
+    {
+        // Object ids this low predate Sailing, so none of them can be a boat facility
+        return random.nextInt(20000);
+    }
+}
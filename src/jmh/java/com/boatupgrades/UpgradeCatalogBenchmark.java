@@ -0,0 +1,123 @@
+package com.boatupgrades;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the indexed UpgradeData.getAvailableOptions query against the original full scan and sort
+ * over string-keyed tiers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpgradeCatalogBenchmark
+{
+    private static final Set<String> RAFT_EXCLUDED_FACILITIES = Set.of(
+            "Inoculation Station",
+            "Trawling Net",
+            "Chum Station",
+            "Anchor",
+            "Fathom Device",
+            "Salvaging Station",
+            "Crystal Extractor"
+    );
+
+    @Param({"0", "1", "2"})
+    public int boatType;
+
+    // Sailing level / installed tier for every part
+    @Param({"1:-1", "50:2", "99:5"})
+    public String levelMix;
+
+    private final BoatUpgradesConfig config = BenchmarkStubs.config();
+    private final ConfigSnapshot configSnapshot = ConfigSnapshot.of(config);
+    private final int[] currentTiers = new int[PartType.COUNT];
+    // The original catalog query looked tiers up by part name
+    private final Map<String, Integer> currentTiersByName = new HashMap<>();
+    private int sailingLevel;
+
+    @Setup
+    public void setUp()
+    {
+        String[] mix = levelMix.split(":");
+        sailingLevel = Integer.parseInt(mix[0]);
+
+        int tier = Integer.parseInt(mix[1]);
+        for (PartType part : PartType.VALUES)
+        {
+            currentTiers[part.ordinal()] = tier;
+            currentTiersByName.put(part.getName(), tier);
+        }
+    }
+
+    @Benchmark
+    public List<UpgradeData.UpgradeOption> indexed()
+    {
+        return UpgradeData.getAvailableOptions(boatType, currentTiers, sailingLevel, 99, configSnapshot);
+    }
+
+    @Benchmark
+    public List<UpgradeData.UpgradeOption> legacyScan()
+    {
+        List<UpgradeData.UpgradeOption> out = new ArrayList<>();
+
+        boolean isRaft = boatType == 0;
+        boolean filterConstruction = config.filterConstructionRequirement();
+
+        for (UpgradeData.UpgradeOption o : UpgradeData.options())
+        {
+            if (o.boatType != -1 && o.boatType != boatType)
+            {
+                continue;
+            }
+
+            if (isRaft && RAFT_EXCLUDED_FACILITIES.contains(o.part.getName()))
+            {
+                continue;
+            }
+
+            Integer cur = currentTiersByName.get(o.part.getName());
+            int curTier = cur == null ? -1 : cur;
+
+            if (o.targetTier <= curTier)
+            {
+                continue;
+            }
+
+            if (sailingLevel < o.requiredSailingLevel)
+            {
+                continue;
+            }
+
+            if (filterConstruction && 99 < o.requiredConstructionLevel)
+            {
+                continue;
+            }
+
+            out.add(o);
+        }
+
+        out.sort(Comparator.comparingInt(o -> o.requiredSailingLevel));
+        return out;
+    }
+}
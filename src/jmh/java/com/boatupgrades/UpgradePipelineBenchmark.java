@@ -0,0 +1,104 @@
+package com.boatupgrades;
+
+import com.boatupgrades.utils.SchematicUtils;
+import com.boatupgrades.utils.UpgradeVisibilityUtils;
+import net.runelite.api.Client;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The upgrade pipeline stages that run on every state recompute:
+ * visibility filtering, the requirement signature and the published list change check
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpgradePipelineBenchmark
+{
+    @Param({"false", "true"})
+    public boolean filterSchematic;
+
+    @Param({"false", "true"})
+    public boolean filterConstruction;
+
+    @Param({"false", "true"})
+    public boolean hideLowerTiers;
+
+    private UpgradeVisibilityUtils upgradeVisibilityUtils;
+    private UpgradeStateService upgradeStateService;
+    private AvailableUpgradesService availableUpgradesService;
+
+    private List<UpgradeData.UpgradeOption> available;
+    private List<UpgradeData.UpgradeOption> availableCopy;
+    private List<UpgradeData.UpgradeOption> availableChanged;
+
+    @Setup
+    public void setUp()
+    {
+        final ConfigSnapshotService configSnapshotService = new ConfigSnapshotService(
+                BenchmarkStubs.config(filterSchematic, filterConstruction, hideLowerTiers));
+        // Schematic varbits read as 0, so every schematic-gated option is locked
+        final Client client = BenchmarkStubs.client(new HashMap<>(), 80);
+        final SchematicUtils schematicUtils = new SchematicUtils(client);
+
+        upgradeVisibilityUtils = new UpgradeVisibilityUtils(client, configSnapshotService, schematicUtils);
+        upgradeStateService = new UpgradeStateService(
+                client, null, null, configSnapshotService, null, null, null, upgradeVisibilityUtils, schematicUtils,
+                new OwnedMaterialsService(client, null, null)
+        );
+        availableUpgradesService = new AvailableUpgradesService();
+
+        // A sloop with nothing installed and level 99 sees the widest list
+        int[] tiers = new int[PartType.COUNT];
+        Arrays.fill(tiers, -1);
+        available = UpgradeData.getAvailableOptions(2, tiers, 99, 99, configSnapshotService.get());
+        availableCopy = new ArrayList<>(available);
+        availableChanged = new ArrayList<>(available.subList(1, available.size()));
+
+        availableUpgradesService.updateIfChanged(available);
+    }
+
+    @Benchmark
+    public List<UpgradeData.UpgradeOption> getVisibleUpgrades()
+    {
+        return upgradeVisibilityUtils.getVisibleUpgrades(available);
+    }
+
+    @Benchmark
+    public long requirementSignature()
+    {
+        return upgradeStateService.computeRequirementSignature(available);
+    }
+
+    @Benchmark
+    public boolean updateIfChangedUnchanged()
+    {
+        return availableUpgradesService.updateIfChanged(availableCopy);
+    }
+
+    @Benchmark
+    public boolean updateIfChangedAlternating()
+    {
+        // Every call differs from the previously published list
+        availableUpgradesService.updateIfChanged(availableChanged);
+        return availableUpgradesService.updateIfChanged(available);
+    }
+}
@@ -0,0 +1,80 @@
+package com.boatupgrades;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A what-if edit of a full raft-to-dragon plan on a sloop, through the memoized part paths of UpgradePlanner
+ * versus re-walking every option and summing materials for each query
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpgradePlannerBenchmark
+{
+    private static final int BOAT_TYPE = 2;
+
+    private final UpgradePlanner planner = new UpgradePlanner();
+    private UpgradePlanner.Loadout current;
+    private final int[] targetTiers = new int[PartType.COUNT];
+
+    @Setup
+    public void setUp()
+    {
+        int[] tiers = new int[PartType.COUNT];
+        Arrays.fill(tiers, -1);
+        current = new UpgradePlanner.Loadout(BOAT_TYPE, tiers);
+
+        Arrays.fill(targetTiers, 6);
+        planner.plan(current, targetTiers);
+    }
+
+    @Benchmark
+    public UpgradePlanner.Plan memoized()
+    {
+        return planner.plan(current, targetTiers);
+    }
+
+    @Benchmark
+    public int[] rewalkOptions()
+    {
+        final List<UpgradeData.UpgradeOption> steps = new ArrayList<>();
+        for (UpgradeData.UpgradeOption opt : UpgradeData.options())
+        {
+            if ((opt.boatType == BOAT_TYPE || opt.boatType == -1)
+                    && opt.targetTier > current.getTier(opt.part)
+                    && opt.targetTier <= targetTiers[opt.part.ordinal()])
+            {
+                steps.add(opt);
+            }
+        }
+        steps.sort(Comparator.comparingInt((UpgradeData.UpgradeOption o) -> o.requiredSailingLevel));
+
+        final int[] totals = new int[UpgradeData.materialCount()];
+        for (UpgradeData.UpgradeOption opt : steps)
+        {
+            for (int i = 0; i < opt.materialIds.length; i++)
+            {
+                totals[opt.materialIds[i]] += opt.quantities[i];
+            }
+        }
+        return totals;
+    }
+}
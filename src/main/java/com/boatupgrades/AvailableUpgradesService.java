@@ -9,6 +9,8 @@ import java.util.List;
 public class AvailableUpgradesService
 {
     private List<UpgradeData.UpgradeOption> lastPublished = Collections.emptyList();
+    // Tiers of the boat the list was last computed for, null until the player is on a boat
+    private volatile UpgradePlanner.Loadout loadout;
 
     public boolean updateIfChanged(List<UpgradeData.UpgradeOption> newList)
     {
@@ -26,6 +28,26 @@ public class AvailableUpgradesService
         return lastPublished;
     }
 
+    /**
+     * @return true if the boat type or any tier differs from the last loadout
+     */
+    public boolean updateLoadoutIfChanged(int boatType, int[] tiers)
+    {
+        UpgradePlanner.Loadout last = loadout;
+        if (last != null && last.sameAs(boatType, tiers))
+        {
+            return false;
+        }
+
+        loadout = new UpgradePlanner.Loadout(boatType, tiers);
+        return true;
+    }
+
+    public UpgradePlanner.Loadout getLoadout()
+    {
+        return loadout;
+    }
+
     private boolean equalsByContent(
             List<UpgradeData.UpgradeOption> a,
             List<UpgradeData.UpgradeOption> b
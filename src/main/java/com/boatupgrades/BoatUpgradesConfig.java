@@ -37,6 +37,14 @@ public interface BoatUpgradesConfig extends Config
 	)
 	String facilitiesSection = "facilitiesSection";
 
+	@ConfigSection(
+			name = "Developer",
+			description = "Tools for collecting facility data",
+			position = 500,
+			closedByDefault = true
+	)
+	String developerSection = "developerSection";
+
 	@ConfigItem(
 			keyName = "displayOverlay",
 			name = "Display overlay",
@@ -102,6 +110,17 @@ public interface BoatUpgradesConfig extends Config
 		return false;
 	}
 
+	@ConfigItem(
+			keyName = "showOwnedMaterials",
+			name = "Show owned materials",
+			description = "Add a line under each upgrade in the overlay and side panel saying whether your inventory and bank hold its materials. Partial counts appear once the bank has been opened",
+			section = overlaySection
+	)
+	default boolean showOwnedMaterials()
+	{
+		return false;
+	}
+
 	@ConfigItem(
 			keyName = "panelPosition",
 			name = "Side panel position",
@@ -265,6 +284,17 @@ public interface BoatUpgradesConfig extends Config
 	)
 	default boolean showEternalBrazier() { return false; }
 
+	@ConfigItem(
+			keyName = "hotspotLearningMode",
+			name = "Hotspot learning mode",
+			description = "Keep scanning boat objects and log the facility hotspot varbits next to each scan. Learned hotspots are included in ::boatvars",
+			section = developerSection
+	)
+	default boolean hotspotLearningMode()
+	{
+		return false;
+	}
+
 	@ConfigItem(
 			keyName = "comingSoon",
 			name = "Schematic checks under development",
@@ -295,4 +325,42 @@ public interface BoatUpgradesConfig extends Config
 			hidden = true
 	)
 	void setLastSeenChangelogVersion(String value);
+
+	@ConfigItem(
+			keyName = "myList",
+			name = "myList",
+			description = "",
+			hidden = true
+	)
+	default String myList()
+	{
+		return "";
+	}
+
+	@ConfigItem(
+			keyName = "myList",
+			name = "",
+			description = "",
+			hidden = true
+	)
+	void setMyList(String value);
+
+	@ConfigItem(
+			keyName = "materialItemIds",
+			name = "materialItemIds",
+			description = "",
+			hidden = true
+	)
+	default String materialItemIds()
+	{
+		return "";
+	}
+
+	@ConfigItem(
+			keyName = "materialItemIds",
+			name = "",
+			description = "",
+			hidden = true
+	)
+	void setMaterialItemIds(String value);
 }
\ No newline at end of file
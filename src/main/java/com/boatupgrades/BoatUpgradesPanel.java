@@ -20,13 +20,17 @@ import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Singleton
 @Slf4j
@@ -49,13 +53,73 @@ public class BoatUpgradesPanel extends PluginPanel
     private JLabel availableTab;
     private JLabel myListTab;
 
-    private final Map<String, ImageIcon> imageCache = new HashMap<>();
-    private final Map<UpgradeData.UpgradeOption, Boolean> schematicUnlockedMap = new HashMap<>();
+    // Size the packIconAtlas Gradle task scales the icons to
+    private static final int ICON_SIZE = 50;
+    private static final ImageIcon PLACEHOLDER_ICON =
+            new ImageIcon(new BufferedImage(ICON_SIZE, ICON_SIZE, BufferedImage.TYPE_INT_ARGB));
+
+    // Decoded in the background on first use and dropped while the panel is hidden. EDT only
+    private UpgradeIconAtlas iconAtlas;
+    private boolean iconAtlasLoading;
+    // Icons per option ordinal, sliced from iconAtlas on first use. EDT only
+    private ImageIcon[] imageCache;
+    // Labels showing the placeholder until the atlas is decoded. EDT only
+    private final Map<JLabel, UpgradeData.UpgradeOption> pendingIcons = new IdentityHashMap<>();
+
+    private static final int ROW_SHOWS_SCHEMATIC = 1;
+    private static final int ROW_SHOWS_CONSTRUCTION = 2;
+    private static final int ROW_SHOWS_MATERIALS_OWNED = 4;
+    // Bits from here up hold the number of the option's materials owned in the needed quantity
+    private static final int ROW_MATERIALS_OWNED_SHIFT = 3;
+
+    // Rows currently in availableUpgradesContainer, reused across updates while their option stays listed
+    private final Map<UpgradeData.UpgradeOption, UpgradeRow> upgradeRows = new HashMap<>();
+    private JPanel emptyState;
+
+    // Single-slot mailbox from the client thread to the EDT, a newer update replaces one not yet drained
+    private final AtomicReference<PanelUpdate> pendingUpdate = new AtomicReference<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private long publishedVersion;
+    private long appliedVersion;
+    // Set on the EDT once the header and cards exist, until then pendingUpdate buffers the latest update
+    private volatile boolean built;
+
+    private static final class PanelUpdate
+    {
+        final long version;
+        final List<UpgradeData.UpgradeOption> options;
+        // ROW_SHOWS_* flags per entry of options
+        final int[] requirementLines;
+        final UpgradePlanner.Loadout loadout;
+
+        PanelUpdate(long version, List<UpgradeData.UpgradeOption> options, int[] requirementLines, UpgradePlanner.Loadout loadout)
+        {
+            this.version = version;
+            this.options = options;
+            this.requirementLines = requirementLines;
+            this.loadout = loadout;
+        }
+    }
+
+    private static final class UpgradeRow
+    {
+        final JPanel panel;
+        final JLabel pinLabel;
+        final Component spacer = Box.createVerticalStrut(8);
+        final int requirementLines;
+
+        UpgradeRow(JPanel panel, JLabel pinLabel, int requirementLines)
+        {
+            this.panel = panel;
+            this.pinLabel = pinLabel;
+            this.requirementLines = requirementLines;
+        }
+    }
 
 
     private ItemManager itemManager;
     private BoatUpgradesOverlay boatUpgradesOverlay;
-    private final BoatUpgradesConfig config;
+    private final ConfigSnapshotService configSnapshotService;
     private Client client;
     @Inject
     private SchematicUtils schematicUtils;
@@ -63,40 +127,108 @@ public class BoatUpgradesPanel extends PluginPanel
     private AvailableUpgradesService availableUpgradesService;
     @Inject
     private UpgradeVisibilityUtils upgradeVisibilityUtils;
+    @Inject
+    private ScheduledExecutorService executor;
+    @Inject
+    private MyListService myListService;
+    @Inject
+    private UpgradePlanner upgradePlanner;
+    @Inject
+    private OwnedMaterialsService ownedMaterialsService;
+    private MyListPanel myListPanel;
 
     @Inject
-    public BoatUpgradesPanel(Client client, ItemManager itemManager, BoatUpgradesConfig config)
+    public BoatUpgradesPanel(Client client, ItemManager itemManager, ConfigSnapshotService configSnapshotService)
     {
         super(false);
         this.itemManager = itemManager;
-        this.config = config;
+        this.configSnapshotService = configSnapshotService;
         this.client = client;
 
         setLayout(new BorderLayout());
         setBackground(ColorScheme.DARK_GRAY_COLOR);
+    }
+
+    /**
+     * Called on the EDT when the navigation button opens the panel, the header and cards are built on the first call
+     */
+    @Override
+    public void onActivate()
+    {
+        if (!built)
+        {
+            add(buildHeader(), BorderLayout.NORTH);
+            add(buildCards(), BorderLayout.CENTER);
+            built = true;
+            revalidate();
+        }
 
-        add(buildHeader(), BorderLayout.NORTH);
-        add(buildCards(), BorderLayout.CENTER);
+        drainPendingUpdate();
     }
 
+    /**
+     * Called on the client thread, resolves everything the rows need there and posts it to the EDT mailbox
+     */
     public void onAvailableUpgradesChanged()
     {
         List<UpgradeData.UpgradeOption> options = availableUpgradesService.get();
+        final ConfigSnapshot config = configSnapshotService.get();
+
+        List<UpgradeData.UpgradeOption> filteredOptions = new ArrayList<>(options.size());
+        int[] requirementLines = new int[options.size()];
 
-        schematicUnlockedMap.clear();
         for (UpgradeData.UpgradeOption opt : options)
         {
-            schematicUnlockedMap.put(opt, schematicUtils.hasSchematic(opt.displayName));
+            if (!upgradeVisibilityUtils.shouldShowUpgrade(opt))
+            {
+                continue;
+            }
+
+            int lines = 0;
+            if (!schematicUtils.hasSchematic(opt) && !config.filterSchematicRequirement)
+            {
+                lines |= ROW_SHOWS_SCHEMATIC;
+            }
+            if (!upgradeVisibilityUtils.meetsConstructionRequirement(opt) && !config.filterConstructionRequirement)
+            {
+                lines |= ROW_SHOWS_CONSTRUCTION;
+            }
+            final int owned = config.showOwnedMaterials
+                    ? ownedMaterialsService.knownSatisfiedMaterials(opt)
+                    : OwnedMaterialsService.HIDDEN;
+            if (owned != OwnedMaterialsService.HIDDEN)
+            {
+                lines |= ROW_SHOWS_MATERIALS_OWNED | (owned << ROW_MATERIALS_OWNED_SHIFT);
+            }
+
+            requirementLines[filteredOptions.size()] = lines;
+            filteredOptions.add(opt);
+        }
+
+        pendingUpdate.set(new PanelUpdate(++publishedVersion, filteredOptions, requirementLines,
+                availableUpgradesService.getLoadout()));
+
+        // Published before reading built, so an update racing the first onActivate is drained by one side or the other
+        if (built && drainScheduled.compareAndSet(false, true))
+        {
+            SwingUtilities.invokeLater(this::drainPendingUpdate);
         }
+    }
 
-        List<UpgradeData.UpgradeOption> filteredOptions = options.stream()
-                .filter(upgradeVisibilityUtils::shouldShowUpgrade)
-                .collect(Collectors.toList());
+    private void drainPendingUpdate()
+    {
+        // Clear the flag first so an update posted while this drain runs schedules its own
+        drainScheduled.set(false);
 
-        SwingUtilities.invokeLater(() ->
+        PanelUpdate update = pendingUpdate.getAndSet(null);
+        if (update == null || update.version <= appliedVersion)
         {
-            updateAvailableUpgrades(filteredOptions);
-        });
+            return;
+        }
+
+        appliedVersion = update.version;
+        updateAvailableUpgrades(update.options, update.requirementLines);
+        myListPanel.setLoadout(update.loadout);
     }
 
     private JPanel buildHeader()
@@ -139,46 +271,76 @@ public class BoatUpgradesPanel extends PluginPanel
         return new ImageIcon(image);
     }
 
-    private ImageIcon getUpgradeIcon(UpgradeData.UpgradeOption opt)
+    /**
+     * Shows the icon of opt on label, or a placeholder swapped once the atlas is decoded in the background
+     */
+    private void setUpgradeIcon(JLabel label, UpgradeData.UpgradeOption opt)
     {
-        String key = opt.displayName + ":" + opt.boatType;
-
-        return imageCache.computeIfAbsent(key, k -> {
-            BufferedImage img = loadUpgradeImage(opt);
-            if (img != null) {
-                return new ImageIcon(img);
-            } else {
-                return (ImageIcon) UIManager.getIcon("OptionPane.warningIcon");
-            }
-        });
+        if (iconAtlas != null)
+        {
+            label.setIcon(getUpgradeIcon(opt));
+            return;
+        }
+
+        label.setIcon(PLACEHOLDER_ICON);
+        pendingIcons.put(label, opt);
+
+        if (!iconAtlasLoading)
+        {
+            iconAtlasLoading = true;
+            executor.execute(() ->
+            {
+                UpgradeIconAtlas atlas = UpgradeIconAtlas.load(UpgradeData.options());
+                SwingUtilities.invokeLater(() -> onIconAtlasLoaded(atlas));
+            });
+        }
     }
 
-    private BufferedImage loadUpgradeImage(UpgradeData.UpgradeOption opt)
+    private void onIconAtlasLoaded(UpgradeIconAtlas atlas)
     {
-        String basePath = "/com/boatupgrades/ui/";
+        iconAtlas = atlas;
+        iconAtlasLoading = false;
 
-        List<String> candidates = new ArrayList<>();
-
-        if (opt.boatType >= 0)
+        for (Map.Entry<JLabel, UpgradeData.UpgradeOption> pending : pendingIcons.entrySet())
         {
-            candidates.add(opt.displayName + " " + opt.boatType + ".png");
+            JLabel label = pending.getKey();
+            // Rows rebuilt since the load started may already show a different icon
+            if (label.getIcon() == PLACEHOLDER_ICON)
+            {
+                label.setIcon(getUpgradeIcon(pending.getValue()));
+            }
         }
-        candidates.add(opt.displayName + ".png");
+        pendingIcons.clear();
+    }
 
-        for (String name : candidates)
+    private ImageIcon getUpgradeIcon(UpgradeData.UpgradeOption opt)
+    {
+        if (imageCache == null || opt.ordinal >= imageCache.length)
         {
-            BufferedImage image = ImageUtil.loadImageResource(
-                    getClass(),
-                    basePath + name
-            );
+            imageCache = new ImageIcon[UpgradeData.options().size()];
+        }
 
-            if (image != null)
-            {
-                return image;
-            }
+        ImageIcon icon = imageCache[opt.ordinal];
+        if (icon == null)
+        {
+            BufferedImage img = iconAtlas.get(opt);
+            icon = img != null
+                    ? new ImageIcon(img)
+                    : (ImageIcon) UIManager.getIcon("OptionPane.warningIcon");
+            imageCache[opt.ordinal] = icon;
         }
+        return icon;
+    }
 
-        return null;
+    @Override
+    public void onDeactivate()
+    {
+        // Rows keep the icons they show, the atlas is decoded again the next time a row is built
+        if (!iconAtlasLoading)
+        {
+            iconAtlas = null;
+            imageCache = null;
+        }
     }
 
     private JPanel buildTabBar()
@@ -255,27 +417,13 @@ public class BoatUpgradesPanel extends PluginPanel
         cardContainer.setBackground(ColorScheme.DARKER_GRAY_COLOR);
 
         cardContainer.add(buildAvailableUpgradesCard(), TAB_AVAILABLE);
-        cardContainer.add(buildPlaceholderPanel("Under development"), TAB_MY_LIST);
+        cardContainer.add(buildMyListCard(), TAB_MY_LIST);
 
         cardLayout.show(cardContainer, TAB_AVAILABLE);
 
         return cardContainer;
     }
 
-    private JPanel buildPlaceholderPanel(String text)
-    {
-        JPanel panel = new JPanel(new BorderLayout());
-        panel.setBackground(ColorScheme.DARKER_GRAY_COLOR);
-        panel.setBorder(new EmptyBorder(15, 10, 10, 10));
-
-        JLabel label = new JLabel(text);
-        label.setForeground(Color.WHITE);
-        label.setFont(FontManager.getRunescapeFont());
-
-        panel.add(label, BorderLayout.NORTH);
-        return panel;
-    }
-
     private JPanel buildAvailableUpgradesCard()
     {
         availableUpgradesContainer = new JPanel();
@@ -298,36 +446,139 @@ public class BoatUpgradesPanel extends PluginPanel
         return wrapper;
     }
 
-    public void updateAvailableUpgrades(List<UpgradeData.UpgradeOption> options)
+    private JPanel buildMyListCard()
+    {
+        myListPanel = new MyListPanel(myListService, upgradePlanner, this::togglePinned);
+
+        JScrollPane scroll = new JScrollPane(myListPanel);
+        scroll.setBorder(null);
+        scroll.getVerticalScrollBar().setUnitIncrement(16);
+        scroll.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+        scroll.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+
+        JPanel wrapper = new JPanel(new BorderLayout());
+        wrapper.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        wrapper.add(scroll, BorderLayout.CENTER);
+
+        return wrapper;
+    }
+
+    private void togglePinned(UpgradeData.UpgradeOption opt)
+    {
+        if (myListService.isPinned(opt))
+        {
+            myListService.unpin(opt);
+            myListPanel.onUnpinned(opt);
+        }
+        else
+        {
+            myListService.pin(opt);
+            myListPanel.onPinned(opt);
+        }
+
+        UpgradeRow row = upgradeRows.get(opt);
+        if (row != null)
+        {
+            stylePinLabel(row.pinLabel, opt);
+        }
+    }
+
+    private void stylePinLabel(JLabel pinLabel, UpgradeData.UpgradeOption opt)
+    {
+        boolean pinned = myListService.isPinned(opt);
+        pinLabel.setText(pinned ? "-" : "+");
+        pinLabel.setToolTipText(pinned ? "Remove from my list" : "Add to my list");
+    }
+
+    /**
+     * Reconciles the rows with the new option list by option identity
+     * Rows whose option and requirement lines are unchanged keep their components, only the delta is built or removed
+     */
+    private void updateAvailableUpgrades(List<UpgradeData.UpgradeOption> options, int[] requirementLines)
     {
-        availableUpgradesContainer.removeAll();
+        boolean changed = false;
 
         if (options.isEmpty())
         {
-            availableUpgradesContainer.add(buildEmptyState("No available upgrades"));
+            if (emptyState == null || emptyState.getParent() != availableUpgradesContainer)
+            {
+                availableUpgradesContainer.removeAll();
+                upgradeRows.clear();
+                emptyState = buildEmptyState("No available upgrades");
+                availableUpgradesContainer.add(emptyState);
+                changed = true;
+            }
         }
         else
         {
-            for (UpgradeData.UpgradeOption opt : options)
+            if (emptyState != null && emptyState.getParent() == availableUpgradesContainer)
+            {
+                availableUpgradesContainer.remove(emptyState);
+                changed = true;
+            }
+
+            final Set<UpgradeData.UpgradeOption> listed = Collections.newSetFromMap(new IdentityHashMap<>());
+            listed.addAll(options);
+
+            for (Iterator<Map.Entry<UpgradeData.UpgradeOption, UpgradeRow>> it = upgradeRows.entrySet().iterator(); it.hasNext(); )
+            {
+                Map.Entry<UpgradeData.UpgradeOption, UpgradeRow> entry = it.next();
+                if (!listed.contains(entry.getKey()))
+                {
+                    availableUpgradesContainer.remove(entry.getValue().panel);
+                    availableUpgradesContainer.remove(entry.getValue().spacer);
+                    it.remove();
+                    changed = true;
+                }
+            }
+
+            for (int i = 0; i < options.size(); i++)
             {
-                availableUpgradesContainer.add(buildUpgradeRow(opt));
-                availableUpgradesContainer.add(Box.createVerticalStrut(8));
+                final UpgradeData.UpgradeOption opt = options.get(i);
+                final int lines = requirementLines[i];
+
+                UpgradeRow row = upgradeRows.get(opt);
+                if (row != null && row.requirementLines != lines)
+                {
+                    availableUpgradesContainer.remove(row.panel);
+                    availableUpgradesContainer.remove(row.spacer);
+                    row = null;
+                }
+
+                if (row == null)
+                {
+                    row = buildUpgradeRow(opt, lines);
+                    upgradeRows.put(opt, row);
+                }
+
+                // Each option owns two slots, its row and the spacer below it
+                if (availableUpgradesContainer.getComponentCount() <= i * 2
+                        || availableUpgradesContainer.getComponent(i * 2) != row.panel)
+                {
+                    availableUpgradesContainer.add(row.panel, i * 2);
+                    availableUpgradesContainer.add(row.spacer, i * 2 + 1);
+                    changed = true;
+                }
             }
         }
 
-        availableUpgradesContainer.revalidate();
-        availableUpgradesContainer.repaint();
+        if (changed)
+        {
+            availableUpgradesContainer.revalidate();
+            availableUpgradesContainer.repaint();
+        }
     }
 
-    private JPanel buildUpgradeRow(UpgradeData.UpgradeOption opt)
+    private UpgradeRow buildUpgradeRow(UpgradeData.UpgradeOption opt, int requirementLines)
     {
         JPanel row = new JPanel(new BorderLayout(10, 0));
         row.setBackground(ColorScheme.DARKER_GRAY_COLOR);
         row.setBorder(new EmptyBorder(6, 6, 6, 6));
         row.setAlignmentX(Component.LEFT_ALIGNMENT);
 
-        JLabel imageLabel = new JLabel(getUpgradeIcon(opt));
-        imageLabel.setPreferredSize(new Dimension(50, 50));
+        JLabel imageLabel = new JLabel();
+        setUpgradeIcon(imageLabel, opt);
+        imageLabel.setPreferredSize(new Dimension(ICON_SIZE, ICON_SIZE));
         row.add(imageLabel, BorderLayout.WEST);
 
         JPanel textCol = new JPanel();
@@ -350,33 +601,29 @@ public class BoatUpgradesPanel extends PluginPanel
         Dimension titlePreferredSize = title.getPreferredSize();
         title.setMaximumSize(new Dimension(100, titlePreferredSize.height));
 
-        makeClickable(title, opt.displayName);
+        makeClickable(title, opt.wikiUrl);
         textCol.add(title);
 
         textCol.add(Box.createVerticalStrut(2));
 
-        for (UpgradeData.Material material : opt.materials)
+        for (int i = 0; i < opt.materialIds.length; i++)
         {
-            JLabel matLabel = new JLabel(String.valueOf(material));
+            final UpgradeData.Material material = UpgradeData.material(opt.materialIds[i]);
+
+            JLabel matLabel = new JLabel(opt.quantities[i] + " x " + material.name);
             matLabel.setFont(FontManager.getRunescapeSmallFont());
             matLabel.setForeground(Color.LIGHT_GRAY);
             matLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
 
-            makeClickable(matLabel, material.name);
+            makeClickable(matLabel, material.wikiUrl);
             textCol.add(matLabel);
         }
 
-        boolean hasSchematic = schematicUnlockedMap.getOrDefault(opt, true);
-
-        if (!hasSchematic && !config.filterSchematicRequirement())
+        if ((requirementLines & ROW_SHOWS_SCHEMATIC) != 0)
         {
             textCol.add(Box.createVerticalStrut(2));
 
-            String schematicName = schematicUtils.getSchematicNameForUpgrade(opt.displayName);
-            if (schematicName == null)
-            {
-                schematicName = "schematic";
-            }
+            String schematicName = opt.schematicName != null ? opt.schematicName : "schematic";
 
             JTextArea schematicLabel = new JTextArea("Requires " + schematicName);
             schematicLabel.setFont(FontManager.getRunescapeSmallFont());
@@ -393,14 +640,15 @@ public class BoatUpgradesPanel extends PluginPanel
             Dimension schematicLabelPreferredSize = schematicLabel.getPreferredSize();
             schematicLabel.setMaximumSize(new Dimension(160, schematicLabelPreferredSize.height));
 
-            makeClickable(schematicLabel, schematicName);
+            if (opt.schematicWikiUrl != null)
+            {
+                makeClickable(schematicLabel, opt.schematicWikiUrl);
+            }
 
             textCol.add(schematicLabel);
         }
 
-        boolean meetsConstruction = upgradeVisibilityUtils.meetsConstructionRequirement(opt);
-
-        if (!meetsConstruction && !config.filterConstructionRequirement())
+        if ((requirementLines & ROW_SHOWS_CONSTRUCTION) != 0)
         {
             textCol.add(Box.createVerticalStrut(2));
 
@@ -414,15 +662,59 @@ public class BoatUpgradesPanel extends PluginPanel
             textCol.add(constructionLabel);
         }
 
+        if ((requirementLines & ROW_SHOWS_MATERIALS_OWNED) != 0)
+        {
+            final int materialsOwned = requirementLines >>> ROW_MATERIALS_OWNED_SHIFT;
+            final boolean canBuild = materialsOwned == opt.materialIds.length;
+
+            textCol.add(Box.createVerticalStrut(2));
+
+            JLabel ownedLabel = new JLabel(canBuild
+                    ? "Can build now"
+                    : "Have " + materialsOwned + "/" + opt.materialIds.length + " materials");
+            ownedLabel.setFont(FontManager.getRunescapeSmallFont());
+            ownedLabel.setForeground(canBuild ? Color.GREEN : Color.LIGHT_GRAY);
+            ownedLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            textCol.add(ownedLabel);
+        }
+
         row.add(textCol, BorderLayout.CENTER);
 
+        JLabel pinLabel = new JLabel();
+        pinLabel.setFont(FontManager.getRunescapeBoldFont());
+        pinLabel.setForeground(Color.LIGHT_GRAY);
+        pinLabel.setVerticalAlignment(SwingConstants.TOP);
+        pinLabel.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        stylePinLabel(pinLabel, opt);
+        pinLabel.addMouseListener(new MouseAdapter()
+        {
+            @Override
+            public void mousePressed(MouseEvent e)
+            {
+                togglePinned(opt);
+            }
+
+            @Override
+            public void mouseEntered(MouseEvent e)
+            {
+                pinLabel.setForeground(ColorScheme.BRAND_ORANGE);
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e)
+            {
+                pinLabel.setForeground(Color.LIGHT_GRAY);
+            }
+        });
+        row.add(pinLabel, BorderLayout.EAST);
+
         Dimension rowPreferredSize = row.getPreferredSize();
         row.setMaximumSize(new Dimension(Integer.MAX_VALUE, rowPreferredSize.height));
 
-        return row;
+        return new UpgradeRow(row, pinLabel, requirementLines);
     }
 
-    private void makeClickable(JComponent component, String name)
+    private void makeClickable(JComponent component, String wikiUrl)
     {
         Color originalColor = component.getForeground();
         component.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
@@ -433,27 +725,7 @@ public class BoatUpgradesPanel extends PluginPanel
             {
                 try
                 {
-                    String wikiName = name;
-
-                    if (wikiName.equals("Teleport focus") ||
-                            wikiName.equals("Greater teleport focus") ||
-                            wikiName.equals("Anchor") ||
-                            wikiName.equals("Range") ||
-                            wikiName.equals("Keg"))
-                    {
-                        wikiName += " (facility)";
-                    }
-
-                    if (!wikiName.equals("Rosewood & cotton sails schematic"))
-                    {
-                        wikiName = wikiName.replace("&", "and");
-                    }
-
-                    wikiName = URLEncoder.encode(wikiName.replace(" ", "_"), StandardCharsets.UTF_8);
-
-                    LinkBrowser.browse("https://oldschool.runescape.wiki/w/" + wikiName);
-
-
+                    LinkBrowser.browse(wikiUrl);
                 }
                 catch (Exception ex)
                 {
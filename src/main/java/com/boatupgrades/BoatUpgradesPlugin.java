@@ -40,6 +40,7 @@ public class BoatUpgradesPlugin extends Plugin
 	@Inject
 	private BoatUpgradesConfig config;
 	private BoatUpgradesOverlay boatUpgradesOverlay;
+	private UpgradeStateService upgradeStateService;
 	@Inject
 	private OverlayManager overlayManager;
 	@Inject
@@ -51,6 +52,12 @@ public class BoatUpgradesPlugin extends Plugin
 	@Inject
 	private FacilityService facilityService;
 	@Inject
+	private ConfigSnapshotService configSnapshotService;
+	@Inject
+	private MaterialItemResolver materialItemResolver;
+	@Inject
+	private OwnedMaterialsService ownedMaterialsService;
+	@Inject
 	private ClientToolbar clientToolbar;
 	private BoatUpgradesPanel panel;
 	private NavigationButton navButton;
@@ -60,13 +67,20 @@ public class BoatUpgradesPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		final long startNanos = System.nanoTime();
+
 		// Inject after startup so that the BoatUpgradesPanel dependency is created
 		// after default SwingUI styling is applied
 		if (boatUpgradesOverlay == null) boatUpgradesOverlay = injector.getInstance(BoatUpgradesOverlay.class);
+		if (upgradeStateService == null) upgradeStateService = injector.getInstance(UpgradeStateService.class);
 		overlayManager.add(boatUpgradesOverlay);
+		facilityService.setHotspotLearningMode(config.hotspotLearningMode());
 		facilityService.start();
-		log.info("Boat Upgrades started");
+		ownedMaterialsService.start();
+		upgradeStateService.start();
+		materialItemResolver.start();
 
+		// Cheap until the navigation button first opens it, see BoatUpgradesPanel.onActivate
 		panel = injector.getInstance(BoatUpgradesPanel.class);
 		final BufferedImage icon = ImageUtil.loadImageResource(getClass(), "icon.png");
 
@@ -79,12 +93,17 @@ public class BoatUpgradesPlugin extends Plugin
 				.build();
 
 		clientToolbar.addNavigation(navButton);
+
+		log.info("Boat Upgrades started in {} ms", (System.nanoTime() - startNanos) / 1_000_000);
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
 		overlayManager.remove(boatUpgradesOverlay);
+		materialItemResolver.stop();
+		upgradeStateService.stop();
+		ownedMaterialsService.stop();
 		facilityService.stop();
 		log.info("Boat Upgrades stopped");
 
@@ -121,6 +140,18 @@ public class BoatUpgradesPlugin extends Plugin
 				sb.append(System.lineSeparator()).append("Hotspot ").append(i).append(": ").append(values[i]);
 			}
 
+			sb.append(System.lineSeparator())
+					.append("Facility scans: ").append(facilityService.getScansRun())
+					.append(" for ").append(facilityService.getScanTriggersTotal()).append(" triggers, updates: ")
+					.append(facilityService.getChangeNotifications())
+					.append(" for ").append(facilityService.getChangeEventsTotal()).append(" changes");
+
+			final String learned = facilityService.getHotspotTable().exportLearned();
+			if (!learned.isEmpty())
+			{
+				sb.append(System.lineSeparator()).append("Learned hotspots:").append(System.lineSeparator()).append(learned);
+			}
+
 			final String output = sb.toString();
 
 			try
@@ -148,16 +179,22 @@ public class BoatUpgradesPlugin extends Plugin
 			return;
 		}
 
+		// Only the settings the snapshot reads recompute, plugin state written from code (myList, materialItemIds,
+		// bankMaterials) shares the group and must not
+		if (ConfigSnapshot.readsKey(event.getKey()))
+		{
+			configSnapshotService.refresh();
+			upgradeStateService.invalidate();
+		}
+
 		if ("persistMinutes".equals(event.getKey()))
 		{
-			boatUpgradesOverlay.refreshCacheExpiry();
+			// ConfigChanged can be posted off the client thread
+			clientThread.invokeLater(upgradeStateService::refreshCacheExpiry);
 		}
-		if ("filterSchematicRequirement".equals(event.getKey()) || "filterConstructionRequirement".equals(event.getKey()))
+		if ("hotspotLearningMode".equals(event.getKey()))
 		{
-			clientThread.invokeLater(() ->
-			{
-				panel.onAvailableUpgradesChanged();
-			});
+			clientThread.invokeLater(() -> facilityService.setHotspotLearningMode(config.hotspotLearningMode()));
 		}
 		if (event.getKey().equals("panelPosition"))
 		{
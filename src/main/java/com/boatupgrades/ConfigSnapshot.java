@@ -0,0 +1,128 @@
+package com.boatupgrades;
+
+import com.google.common.collect.ImmutableSet;
+import net.runelite.client.config.ConfigItem;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable copy of the config values read on hot paths.
+ * BoatUpgradesConfig is a ConfigManager proxy, so every call is a reflective dispatch and a config store lookup;
+ * a snapshot is taken once per ConfigChanged and read as plain fields everywhere else.
+ */
+public final class ConfigSnapshot
+{
+    // Config keys the constructor reads, any other key of the group cannot change a snapshot
+    private static final Set<String> KEYS = recordReadKeys();
+
+    public final boolean displayOverlay;
+    public final boolean overlayOnlyInShipyard;
+    public final boolean filterSchematicRequirement;
+    public final boolean filterConstructionRequirement;
+    public final boolean hideLowerTiers;
+    public final boolean showOwnedMaterials;
+    public final int persistMinutes;
+    // Bit PartType.mask() is set when the part is toggled on
+    public final int enabledPartMask;
+
+    private ConfigSnapshot(BoatUpgradesConfig config)
+    {
+        this.displayOverlay = config.displayOverlay();
+        this.overlayOnlyInShipyard = config.overlayOnlyInShipyard();
+        this.filterSchematicRequirement = config.filterSchematicRequirement();
+        this.filterConstructionRequirement = config.filterConstructionRequirement();
+        this.hideLowerTiers = config.hideLowerTiers();
+        this.showOwnedMaterials = config.showOwnedMaterials();
+        this.persistMinutes = Math.max(0, config.persistMinutes());
+
+        int mask = 0;
+        for (PartType part : PartType.VALUES)
+        {
+            if (isConfigEnabled(config, part))
+            {
+                mask |= part.mask();
+            }
+        }
+        this.enabledPartMask = mask;
+    }
+
+    public static ConfigSnapshot of(BoatUpgradesConfig config)
+    {
+        return new ConfigSnapshot(config);
+    }
+
+    /**
+     * Runs the constructor once against a config that records the keyName of every item it is asked for,
+     * so a setting read above is picked up without a second list to keep in sync
+     * Every value is read unconditionally, a read guarded by another value could go unrecorded
+     */
+    private static Set<String> recordReadKeys()
+    {
+        final Set<String> keys = new HashSet<>();
+        final BoatUpgradesConfig recorder = (BoatUpgradesConfig) Proxy.newProxyInstance(
+                BoatUpgradesConfig.class.getClassLoader(),
+                new Class<?>[]{BoatUpgradesConfig.class},
+                (proxy, method, args) ->
+                {
+                    final ConfigItem item = method.getAnnotation(ConfigItem.class);
+                    if (item != null)
+                    {
+                        keys.add(item.keyName());
+                    }
+
+                    final Class<?> type = method.getReturnType();
+                    if (type == boolean.class)
+                    {
+                        return false;
+                    }
+                    return type == int.class ? 0 : null;
+                }
+        );
+
+        new ConfigSnapshot(recorder);
+        return ImmutableSet.copyOf(keys);
+    }
+
+    /**
+     * @return true if a change to the config key can change the snapshot
+     */
+    public static boolean readsKey(String key)
+    {
+        return KEYS.contains(key);
+    }
+
+    public boolean isPartEnabled(PartType part)
+    {
+        return (enabledPartMask & part.mask()) != 0;
+    }
+
+    private static boolean isConfigEnabled(BoatUpgradesConfig config, PartType part)
+    {
+        switch (part)
+        {
+            case BASE:
+            case HULL: return config.showBaseHull();
+            case HELM: return config.showHelm();
+            case SAILS: return config.showSails();
+            case KEEL: return config.showKeel();
+            case SALVAGING_HOOK: return config.showSalvagingHook();
+            case CARGO_HOLD: return config.showCargoHold();
+            case CANNON: return config.showCannon();
+            case TELEPORT_FOCUS: return config.showTeleportFocus();
+            case WIND_DEVICE: return config.showWindDevice();
+            case TRAWLING_NET: return config.showTrawlingNet();
+            case CHUM_STATION: return config.showChumStation();
+            case FATHOM_DEVICE: return config.showFathomDevice();
+            case RANGE: return config.showRange();
+            case KEG: return config.showKeg();
+            case ANCHOR: return config.showAnchor();
+            case INOCULATION_STATION: return config.showInoculationStation();
+            case SALVAGING_STATION: return config.showSalvagingStation();
+            case CRYSTAL_EXTRACTOR: return config.showCrystalExtractor();
+            case ETERNAL_BRAZIER: return config.showEternalBrazier();
+            default: return true;
+        }
+    }
+}
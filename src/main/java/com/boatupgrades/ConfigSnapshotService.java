@@ -0,0 +1,31 @@
+package com.boatupgrades;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Holds the current ConfigSnapshot, rebuilt by BoatUpgradesPlugin.onConfigChanged
+ */
+@Singleton
+public class ConfigSnapshotService
+{
+    private final BoatUpgradesConfig config;
+    private volatile ConfigSnapshot snapshot;
+
+    @Inject
+    public ConfigSnapshotService(BoatUpgradesConfig config)
+    {
+        this.config = config;
+        this.snapshot = ConfigSnapshot.of(config);
+    }
+
+    public ConfigSnapshot get()
+    {
+        return snapshot;
+    }
+
+    public void refresh()
+    {
+        snapshot = ConfigSnapshot.of(config);
+    }
+}
@@ -0,0 +1,8 @@
+package com.boatupgrades;
+
+/**
+ * Posted on the EventBus by FacilityService whenever a scan of the boat's world entity finishes
+ */
+public final class FacilitiesScanned
+{
+}
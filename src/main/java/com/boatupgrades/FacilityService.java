@@ -1,7 +1,9 @@
 package com.boatupgrades;
 
+import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
+import net.runelite.api.events.GameObjectDespawned;
 import net.runelite.api.events.GameObjectSpawned;
 import net.runelite.api.events.GameTick;
 import net.runelite.api.events.VarbitChanged;
@@ -14,12 +16,14 @@ import javax.inject.Singleton;
 import java.util.*;
 
 import static net.runelite.api.gameval.VarbitID.SAILING_BOARDED_BOAT;
+import static net.runelite.api.gameval.VarbitID.SAILING_BOARDED_BOAT_TYPE;
+import static net.runelite.api.gameval.VarbitID.SAILING_PREVIOUS_BOAT_TYPE_ID;
 import static net.runelite.api.gameval.VarbitID.SAILING_SIDEPANEL_SHIPYARD_MODE;
 
 /**
- * FacilityService scans game objects within your boat's world entity to detect boat facilities
- * Ideally, the end goal is to find all the varbit values for each hotspot for each boat type to detect the facilities
- * For now, this will have to suffice
+ * FacilityService detects boat facilities from the hotspot varbits wherever the HotspotFacilityTable covers the boat,
+ * and falls back to scanning game objects within your boat's world entity otherwise
+ * The hotspot learning mode keeps scanning and records the hotspot varbits next to each scan to grow the table
  */
 @Singleton
 @Slf4j
@@ -28,37 +32,52 @@ public class FacilityService
     private final Client client;
     private final EventBus eventBus;
 
-    private final Map<String, Integer> highestDetected = new HashMap<>();
+    // Indexed by PartType ordinal, only facility parts are ever written
+    private final int[] highestDetected = new int[PartType.COUNT];
+    // Live facility object count per (part ordinal << 3 | tier)
+    private final int[] facilityCounts = new int[PartType.COUNT << 3];
+    // Facility objects currently on the boat, keyed by instance so multi-tile objects count once
+    private final Map<GameObject, Integer> trackedFacilities = new IdentityHashMap<>();
+    private int boatWorldViewId = -1;
+
+    // Scan bounds learned from the last full scan of the boat and widened by facility spawns, cleared when leaving it
+    // Only follow-up scans are bounded, explicit triggers always walk the whole scene
+    private int scanPlaneMask;
+    private int scanMinX;
+    private int scanMinY;
+    private int scanMaxX;
+    private int scanMaxY;
+
+    private int lastScanTilesVisited;
+    private int lastScanObjectsClassified;
+
+    // Scan triggers only schedule, onGameTick runs at most one scan per tick for all triggers merged into it
     private int pendingScanTicks = -1;
+    private int mergedScanTriggers;
+    // Set when any trigger merged into the pending scan needs the whole scene walked
+    private boolean pendingFullScan;
+    private long scansRun;
+    private long scanTriggersTotal;
+    // Spawn and despawn changes within a tick are announced with a single FacilitiesScanned
+    private int pendingChangeEvents;
+    private long changeNotifications;
+    private long changeEventsTotal;
     public boolean detectedFacilitiesComplete;
 
+    private final HotspotFacilityTable hotspotTable = HotspotFacilityTable.load();
+    private final int[] hotspotValues = new int[HotspotFacilityTable.HOTSPOT_VARBITS.length];
+    private final int[] hotspotTiers = new int[PartType.COUNT];
+    // True while the detected tiers come from the hotspot table, spawn tracking is paused meanwhile
+    private boolean hotspotDriven;
+    private boolean hotspotLearningMode;
+
     @Inject
     public FacilityService(Client client, EventBus eventBus)
     {
         this.client = client;
         this.eventBus = eventBus;
 
-        List<String> facilities = Arrays.asList(
-                "Salvaging Hook",
-                "Cargo Hold",
-                "Cannon",
-                "Teleport Focus",
-                "Wind Device",
-                "Trawling Net",
-                "Chum Station",
-                "Fathom Device",
-                "Range",
-                "Keg",
-                "Anchor",
-                "Inoculation Station",
-                "Salvaging Station",
-                "Crystal Extractor",
-                "Eternal Brazier"
-        );
-        for (String f : facilities)
-        {
-            highestDetected.put(f, -1);
-        }
+        Arrays.fill(highestDetected, -1);
     }
 
     public void start()
@@ -70,144 +89,175 @@ public class FacilityService
         eventBus.unregister(this);
     }
 
-    private void processSceneGameObject(GameObject go)
+    /**
+     * @return the classifyObject result for the object, 0 if it is not a facility
+     */
+    @VisibleForTesting
+    int processSceneGameObject(GameObject go)
     {
         try
         {
             final int id = go.getId();
-            final String name = client.getObjectDefinition(id).getName();
 
-            if (!name.equals("null"))
+            if (log.isDebugEnabled())
             {
-                log.debug("Boat GameObject detected: id={}, name='{}'", id, name);
-            }
-
-            if (SALVAGING_HOOK_BRONZE.contains(id) || SALVAGING_HOOK_IRON.contains(id) || SALVAGING_HOOK_STEEL.contains(id)
-                    || SALVAGING_HOOK_MITHRIL.contains(id) || SALVAGING_HOOK_ADAMANT.contains(id)
-                    || SALVAGING_HOOK_RUNE.contains(id) || SALVAGING_HOOK_DRAGON.contains(id)) {
-                updateHighest("Salvaging Hook", salvageHookIdToTier(id));
-                return;
-            }
-
-            if (CARGO_HOLD_REGULAR.contains(id) || CARGO_HOLD_OAK.contains(id) || CARGO_HOLD_TEAK.contains(id)
-                    || CARGO_HOLD_MAHOGANY.contains(id) || CARGO_HOLD_CAMPHOR.contains(id)
-                    || CARGO_HOLD_IRONWOOD.contains(id) || CARGO_HOLD_ROSEWOOD.contains(id)) {
-                updateHighest("Cargo Hold", cargoIdToTier(id));
-                return;
-            }
-
-            if (CANNON_BRONZE.contains(id) || CANNON_IRON.contains(id) || CANNON_STEEL.contains(id)
-                    || CANNON_MITHRIL.contains(id) || CANNON_ADAMANT.contains(id)
-                    || CANNON_RUNE.contains(id) || CANNON_DRAGON.contains(id)) {
-                updateHighest("Cannon", cannonIdToTier(id));
-                return;
-            }
-
-            if (TELEPORT_FOCUS.contains(id) || TELEPORT_FOCUS_GREATER.contains(id)) {
-                updateHighest("Teleport Focus", teleportFocusIdToTier(id));
-                return;
-            }
-
-            if (WIND_CATCHER.contains(id) || GALE_CATCHER.contains(id)) {
-                updateHighest("Wind Device", windIdToTier(id));
-                return;
-            }
-
-            if (TRAWLING_NET_ROPE.contains(id) || TRAWLING_NET_LINEN.contains(id)
-                    || TRAWLING_NET_HEMP.contains(id) || TRAWLING_NET_COTTON.contains(id)) {
-                updateHighest("Trawling Net", trawlingIdToTier(id));
-                return;
+                final String name = client.getObjectDefinition(id).getName();
+                if (!name.equals("null"))
+                {
+                    log.debug("Boat GameObject detected: id={}, name='{}'", id, name);
+                }
             }
 
-            if (CHUM_STATION.contains(id) || CHUM_STATION_ADVANCED.contains(id) || CHUM_SPREADER.contains(id)) {
-                updateHighest("Chum Station", chumIdToTier(id));
-                return;
+            final int facility = classifyObject(id);
+            if (facility != 0)
+            {
+                trackFacility(go, facility - 1);
             }
+            return facility;
+        }
+        catch (Throwable t)
+        {
+            log.debug("processSceneGameObject failed", t);
+            return 0;
+        }
+    }
 
-            if (FATHOM_STONE.contains(id) || FATHOM_PEARL.contains(id)) {
-                updateHighest("Fathom Device", fathomIdToTier(id));
-                return;
-            }
+    /**
+     * Full rescan of the boat's world entity
+     * Spawn and despawn events keep the detected tiers current, so this only runs on explicit triggers
+     * (boarding, entering the shipyard) and doubles as a consistency check for the incremental tracking
+     */
+    public void scanBoatWorldEntity()
+    {
+        scanBoatWorldEntity(true);
+    }
 
-            if (RANGE.contains(id)) {
-                updateHighest("Range", 0);
-                return;
-            }
+    /**
+     * @param full walk the whole scene and record fresh bounds, otherwise only the bounds of the last full scan
+     */
+    private void scanBoatWorldEntity(boolean full)
+    {
+        WorldView boatView = findBoatWorldView();
+        if (boatView == null)
+        {
+            log.debug("No boat worldview");
+            return;
+        }
 
-            if (KEG.contains(id)) {
-                updateHighest("Keg", 0);
-                return;
-            }
+        setBoatWorldViewId(boatView.getId());
 
-            if (ANCHOR.contains(id)) {
-                updateHighest("Anchor", 0);
-                return;
-            }
+        Scene scene = boatView.getScene();
+        if (scene == null)
+        {
+            return;
+        }
 
-            if (INOCULATION_STATION.contains(id)) {
-                updateHighest("Inoculation Station", 0);
-                return;
-            }
+        final int[] before = detectedFacilitiesComplete ? highestDetected.clone() : null;
 
-            if (SALVAGING_STATION.contains(id)) {
-                updateHighest("Salvaging Station", 0);
-                return;
-            }
+        if (full)
+        {
+            scanPlaneMask = 0;
+        }
 
-            if (CRYSTAL_EXTRACTOR.contains(id)) {
-                updateHighest("Crystal Extractor", 0);
-                return;
-            }
+        resetAllDetectedTiers();
+        scanScene(scene);
 
-            if (ETERNAL_BRAZIER.contains(id)) {
-                updateHighest("Eternal Brazier", 0);
-            }
+        if (hotspotLearningMode)
+        {
+            recordHotspotObservation();
         }
-        catch (Throwable t)
+
+        if (before != null && !Arrays.equals(before, highestDetected))
         {
-            log.debug("processSceneGameObject failed", t);
+            log.debug("FacilityService: rescan corrected incremental tiers {} -> {}",
+                    Arrays.toString(before), Arrays.toString(highestDetected));
         }
+
+        eventBus.post(new FacilitiesScanned());
     }
 
-    public void scanBoatWorldEntity()
+    private WorldView findBoatWorldView()
     {
         WorldView top = client.getTopLevelWorldView();
         if (top == null)
         {
-            log.debug("No top-level worldview");
-            return;
+            return null;
         }
 
         var entities = top.worldEntities();
         if (entities == null)
         {
-            log.debug("No world entities");
-            return;
+            return null;
         }
 
         for (WorldEntity entity : entities)
         {
-            if (entity.getOwnerType() != WorldEntity.OWNER_TYPE_SELF_PLAYER)
+            if (entity.getOwnerType() == WorldEntity.OWNER_TYPE_SELF_PLAYER && entity.getWorldView() != null)
             {
-                continue;
+                return entity.getWorldView();
             }
+        }
 
-            WorldView boatView = entity.getWorldView();
+        return null;
+    }
+
+    private boolean isOnBoat(GameObject go)
+    {
+        WorldView view = go.getWorldView();
+        if (view == null || view.isTopLevel())
+        {
+            return false;
+        }
+
+        if (boatWorldViewId == -1)
+        {
+            WorldView boatView = findBoatWorldView();
             if (boatView == null)
             {
-                continue;
+                return false;
             }
+            setBoatWorldViewId(boatView.getId());
+        }
 
-            Scene scene = boatView.getScene();
-            if (scene == null)
-            {
-                continue;
-            }
+        return view.getId() == boatWorldViewId;
+    }
+
+    private void setBoatWorldViewId(int id)
+    {
+        if (id != boatWorldViewId)
+        {
+            boatWorldViewId = id;
+            scanPlaneMask = 0;
+        }
+    }
+
+    private void widenScanBounds(GameObject go)
+    {
+        if (scanPlaneMask == 0)
+        {
+            return;
+        }
 
-            scanScene(scene);
+        // Scans only look at object origins, so the origin tile is all the bounds need to cover
+        Point origin = go.getSceneMinLocation();
+        if (origin == null)
+        {
+            scanPlaneMask = 0;
+            return;
         }
+
+        scanPlaneMask |= 1 << go.getPlane();
+        scanMinX = Math.min(scanMinX, origin.getX());
+        scanMinY = Math.min(scanMinY, origin.getY());
+        scanMaxX = Math.max(scanMaxX, origin.getX());
+        scanMaxY = Math.max(scanMaxY, origin.getY());
     }
 
+    /**
+     * Walks the boat scene, classifying every game object once at the tile it originates on
+     * A full scan covers the whole scene and records the occupied bounds and the planes holding facilities,
+     * follow-up scans of the same boat only walk those
+     */
     private void scanScene(Scene scene)
     {
         Tile[][][] tiles = scene.getTiles();
@@ -216,15 +266,27 @@ public class FacilityService
             return;
         }
 
+        final boolean bounded = scanPlaneMask != 0;
+        int planeMask = 0;
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = -1;
+        int maxY = -1;
+        int tilesVisited = 0;
+        int objectsClassified = 0;
+
         for (int plane = 0; plane < tiles.length; plane++)
         {
             Tile[][] planeTiles = tiles[plane];
-            if (planeTiles == null)
+            if (planeTiles == null || (bounded && (scanPlaneMask & (1 << plane)) == 0))
             {
                 continue;
             }
 
-            for (int x = 0; x < planeTiles.length; x++)
+            final int xStart = bounded ? Math.max(scanMinX, 0) : 0;
+            final int xEnd = bounded ? Math.min(scanMaxX + 1, planeTiles.length) : planeTiles.length;
+
+            for (int x = xStart; x < xEnd; x++)
             {
                 Tile[] col = planeTiles[x];
                 if (col == null)
@@ -232,7 +294,10 @@ public class FacilityService
                     continue;
                 }
 
-                for (int y = 0; y < col.length; y++)
+                final int yStart = bounded ? Math.max(scanMinY, 0) : 0;
+                final int yEnd = bounded ? Math.min(scanMaxY + 1, col.length) : col.length;
+
+                for (int y = yStart; y < yEnd; y++)
                 {
                     Tile tile = col[y];
                     if (tile == null)
@@ -240,16 +305,51 @@ public class FacilityService
                         continue;
                     }
 
+                    tilesVisited++;
+
                     for (GameObject go : tile.getGameObjects())
                     {
-                        if (go != null)
+                        if (go == null)
+                        {
+                            continue;
+                        }
+
+                        // Multi-tile objects sit on every tile they cover, only handle them at their origin
+                        Point origin = go.getSceneMinLocation();
+                        if (origin != null && (origin.getX() != x || origin.getY() != y))
+                        {
+                            continue;
+                        }
+
+                        objectsClassified++;
+                        minX = Math.min(minX, x);
+                        minY = Math.min(minY, y);
+                        maxX = Math.max(maxX, x);
+                        maxY = Math.max(maxY, y);
+
+                        if (processSceneGameObject(go) != 0)
                         {
-                            processSceneGameObject(go);
+                            planeMask |= 1 << plane;
                         }
                     }
                 }
             }
         }
+
+        if (!bounded && planeMask != 0)
+        {
+            scanPlaneMask = planeMask;
+            scanMinX = minX;
+            scanMinY = minY;
+            scanMaxX = maxX;
+            scanMaxY = maxY;
+        }
+
+        lastScanTilesVisited = tilesVisited;
+        lastScanObjectsClassified = objectsClassified;
+        log.debug("FacilityService: scan visited {} tiles, classified {} objects{}",
+                tilesVisited, objectsClassified, bounded ? " (bounded)" : "");
+
         detectedFacilitiesComplete = true;
     }
 
@@ -260,6 +360,12 @@ public class FacilityService
         {
             final int changedVarbit = ev.getVarbitId();
 
+            if (isHotspotVarbit(changedVarbit))
+            {
+                onHotspotVarbitChanged();
+                return;
+            }
+
             if (changedVarbit != SAILING_BOARDED_BOAT &&
                     changedVarbit != SAILING_SIDEPANEL_SHIPYARD_MODE)
             {
@@ -276,9 +382,18 @@ public class FacilityService
 
             final boolean nowActive = (boarded != 0) || (shipyardMode != 0);
 
-            if (nowActive)
+            if (nowActive && !hotspotLearningMode && applyHotspotVarbits())
+            {
+                cancelScan();
+
+                log.debug(
+                        "FacilityService: sailing varbit {} changed -> active (boarded={}, shipyard={}), resolved from hotspots",
+                        changedVarbit, boarded, shipyardMode
+                );
+            }
+            else if (nowActive)
             {
-                pendingScanTicks = 2;
+                requestScan(2, true);
 
                 log.debug(
                         "FacilityService: sailing varbit {} changed -> active (boarded={}, shipyard={}), scheduling scan",
@@ -287,7 +402,8 @@ public class FacilityService
             }
             else
             {
-                pendingScanTicks = -1;
+                cancelScan();
+                setBoatWorldViewId(-1);
 
                 log.debug(
                         "FacilityService: sailing varbits inactive (boarded={}, shipyard={}), reset",
@@ -301,45 +417,272 @@ public class FacilityService
         }
     }
 
+    private static boolean isHotspotVarbit(int varbitId)
+    {
+        for (int hotspotVarbit : HotspotFacilityTable.HOTSPOT_VARBITS)
+        {
+            if (hotspotVarbit == varbitId)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onHotspotVarbitChanged()
+    {
+        if (client.getVarbitValue(SAILING_BOARDED_BOAT) == 0 && client.getVarbitValue(SAILING_SIDEPANEL_SHIPYARD_MODE) == 0)
+        {
+            return;
+        }
+
+        if (!hotspotLearningMode && applyHotspotVarbits())
+        {
+            cancelScan();
+            return;
+        }
+
+        // Learning mode wants a scan next to every hotspot change, and an unknown value leaves the
+        // spawn-tracked state stale if hotspots were driving it until now
+        // Spawns were ignored while hotspots drove the tiers, so the bounds may have missed a new facility
+        if (hotspotLearningMode || hotspotDriven)
+        {
+            requestScan(1, hotspotDriven);
+            hotspotDriven = false;
+        }
+    }
+
+    /**
+     * Marks the boat scene for a rescan in delayTicks ticks, merging with any scan already pending
+     * The longest requested delay wins so objects still loading for an earlier trigger are not missed
+     *
+     * @param full true for explicit triggers, which must see facilities outside the bounds of the last scan
+     */
+    private void requestScan(int delayTicks, boolean full)
+    {
+        mergedScanTriggers++;
+        scanTriggersTotal++;
+        pendingFullScan |= full;
+
+        if (delayTicks > pendingScanTicks)
+        {
+            pendingScanTicks = delayTicks;
+        }
+    }
+
+    private void cancelScan()
+    {
+        pendingScanTicks = -1;
+        mergedScanTriggers = 0;
+        pendingFullScan = false;
+    }
+
+    private void markFacilitiesChanged()
+    {
+        pendingChangeEvents++;
+        changeEventsTotal++;
+    }
+
+    private int currentBoatType()
+    {
+        return client.getVarbitValue(SAILING_BOARDED_BOAT) != 0
+                ? client.getVarbitValue(SAILING_BOARDED_BOAT_TYPE)
+                : client.getVarbitValue(SAILING_PREVIOUS_BOAT_TYPE_ID);
+    }
+
+    /**
+     * Reads the hotspot varbits and resolves them through the table into hotspotTiers
+     *
+     * @return false if the table has no entries for the boat, no hotspot is occupied, or an occupied hotspot
+     * has no table entry
+     */
+    private boolean resolveHotspotTiers(int boatType)
+    {
+        Arrays.fill(hotspotTiers, -1);
+
+        // The learning mode reads the values even when the table cannot resolve them
+        for (int i = 0; i < hotspotValues.length; i++)
+        {
+            hotspotValues[i] = client.getVarbitValue(HotspotFacilityTable.HOTSPOT_VARBITS[i]);
+        }
+
+        if (!hotspotTable.hasBoatType(boatType))
+        {
+            return false;
+        }
+
+        // All hotspots reading 0 is as likely varbits not sent yet as a bare boat, leave that to the scan
+        boolean resolved = false;
+
+        for (int i = 0; i < hotspotValues.length; i++)
+        {
+            if (hotspotValues[i] == 0)
+            {
+                continue;
+            }
+
+            final int facility = hotspotTable.lookup(boatType, i, hotspotValues[i]);
+            if (facility == HotspotFacilityTable.UNKNOWN)
+            {
+                return false;
+            }
+
+            final int part = facility >>> 3;
+            hotspotTiers[part] = Math.max(hotspotTiers[part], facility & 7);
+            resolved = true;
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Takes the detected tiers from the hotspot varbits alone, without touching the scene
+     *
+     * @return false if the table does not cover the boat, leaving the detected tiers untouched
+     */
+    private boolean applyHotspotVarbits()
+    {
+        if (!resolveHotspotTiers(currentBoatType()))
+        {
+            return false;
+        }
+
+        final boolean changed = !hotspotDriven || !Arrays.equals(hotspotTiers, highestDetected);
+
+        resetAllDetectedTiers();
+        System.arraycopy(hotspotTiers, 0, highestDetected, 0, hotspotTiers.length);
+        hotspotDriven = true;
+        detectedFacilitiesComplete = true;
+
+        if (changed)
+        {
+            eventBus.post(new FacilitiesScanned());
+        }
+        return true;
+    }
+
+    /**
+     * Learning mode: logs the hotspot varbits next to the scan result, feeds the table learner,
+     * and checks the table against the scan wherever it already covers the boat
+     */
+    private void recordHotspotObservation()
+    {
+        final int boatType = currentBoatType();
+        final boolean covered = resolveHotspotTiers(boatType);
+
+        StringBuilder facilities = new StringBuilder();
+        for (int facility = 0; facility < facilityCounts.length; facility++)
+        {
+            if (facilityCounts[facility] > 0)
+            {
+                facilities.append(' ').append(PartType.VALUES[facility >>> 3].name())
+                        .append(':').append(facility & 7)
+                        .append('x').append(facilityCounts[facility]);
+            }
+        }
+
+        log.info("Hotspot learning: boatType={}, hotspots={}, facilities=[{}]",
+                boatType, Arrays.toString(hotspotValues), facilities.toString().trim());
+
+        if (covered && !Arrays.equals(hotspotTiers, highestDetected))
+        {
+            log.warn("Hotspot table disagrees with scan for boatType={}: table={}, scan={}",
+                    boatType, Arrays.toString(hotspotTiers), Arrays.toString(highestDetected));
+        }
+
+        hotspotTable.learn(boatType, hotspotValues, facilityCounts);
+    }
+
     @Subscribe
     public void onGameTick(GameTick tick)
     {
-        if (pendingScanTicks < 0)
+        if (pendingScanTicks > 0 && --pendingScanTicks == 0)
         {
+            log.debug("FacilityService: scanning for {} merged triggers ({} scans for {} triggers so far)",
+                    mergedScanTriggers, scansRun + 1, scanTriggersTotal);
+
+            final boolean full = pendingFullScan;
+            cancelScan();
+            scansRun++;
+            pendingChangeEvents = 0;
+            scanBoatWorldEntity(full);
             return;
         }
 
-        pendingScanTicks--;
-
-        if (pendingScanTicks == 0)
+        if (pendingChangeEvents > 0)
         {
-            scanBoatWorldEntity();
-            pendingScanTicks = -1;
+            log.debug("FacilityService: {} facility changes merged into one update ({} updates for {} changes so far)",
+                    pendingChangeEvents, changeNotifications + 1, changeEventsTotal);
+
+            pendingChangeEvents = 0;
+            changeNotifications++;
+            eventBus.post(new FacilitiesScanned());
         }
     }
 
     @Subscribe
     public void onGameObjectSpawned(GameObjectSpawned event)
     {
-        final int shipyardMode = client.getVarbitValue(SAILING_SIDEPANEL_SHIPYARD_MODE);
-        final boolean inShipyard = shipyardMode != 0;
+        final GameObject go = event.getGameObject();
+        if (go == null || hotspotDriven)
+        {
+            return;
+        }
+
+        final int facility = classifyObject(go.getId());
+        if (facility == 0 || !isOnBoat(go))
+        {
+            return;
+        }
 
-        if (inShipyard && pendingScanTicks == -1) // Avoids calls while entering shipyard
+        widenScanBounds(go);
+        if (trackFacility(go, facility - 1))
         {
-            resetAllDetectedTiers();
-            scanBoatWorldEntity();
-            //log.info("Game object spawned");
+            markFacilitiesChanged();
         }
     }
 
-    public int getHighestTier(String partName)
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned event)
     {
-            return highestDetected.getOrDefault(partName, -1);
+        final GameObject go = event.getGameObject();
+        if (go != null && !hotspotDriven && untrackFacility(go))
+        {
+            markFacilitiesChanged();
+        }
     }
 
-    public Map<String, Integer> getAllHighestTiers()
+    public int getHighestTier(PartType part)
     {
-        return new HashMap<>(highestDetected);
+        return highestDetected[part.ordinal()];
+    }
+
+    public Map<PartType, Integer> getAllHighestTiers()
+    {
+        Map<PartType, Integer> tiers = new EnumMap<>(PartType.class);
+        for (PartType part : PartType.VALUES)
+        {
+            if (part.isFacility())
+            {
+                tiers.put(part, highestDetected[part.ordinal()]);
+            }
+        }
+        return tiers;
+    }
+
+    /**
+     * Writes the detected tier of every facility into a tier vector indexed by PartType ordinal
+     * Core part slots are left untouched
+     */
+    public void copyHighestTiers(int[] tiers)
+    {
+        for (PartType part : PartType.VALUES)
+        {
+            if (part.isFacility())
+            {
+                tiers[part.ordinal()] = highestDetected[part.ordinal()];
+            }
+        }
     }
 
     public boolean hasDetectedAllFacilities()
@@ -347,305 +690,330 @@ public class FacilityService
         return detectedFacilitiesComplete;
     }
 
+    public int getLastScanTilesVisited()
+    {
+        return lastScanTilesVisited;
+    }
+
+    public int getLastScanObjectsClassified()
+    {
+        return lastScanObjectsClassified;
+    }
+
+    public long getScansRun()
+    {
+        return scansRun;
+    }
+
+    public long getScanTriggersTotal()
+    {
+        return scanTriggersTotal;
+    }
+
+    public long getChangeNotifications()
+    {
+        return changeNotifications;
+    }
+
+    public long getChangeEventsTotal()
+    {
+        return changeEventsTotal;
+    }
+
+    public HotspotFacilityTable getHotspotTable()
+    {
+        return hotspotTable;
+    }
 
-    private void updateHighest(String partName, int tier)
+    public void setHotspotLearningMode(boolean hotspotLearningMode)
     {
-        if (partName == null || tier < 0)
+        this.hotspotLearningMode = hotspotLearningMode;
+    }
+
+
+    /**
+     * @param key (part ordinal << 3 | tier)
+     * @return true if the highest detected tier of the part changed
+     */
+    private boolean trackFacility(GameObject go, int key)
+    {
+        if (trackedFacilities.put(go, key) != null)
         {
-            return;
+            return false;
         }
 
-            Integer cur = highestDetected.get(partName);
-            if (cur == null)
+        facilityCounts[key]++;
+
+        final int part = key >>> 3;
+        final int tier = key & 7;
+        if (tier > highestDetected[part])
+        {
+            highestDetected[part] = tier;
+            log.debug("FacilityService: updated {} -> {}", PartType.VALUES[part], tier);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the highest detected tier of the part changed
+     */
+    private boolean untrackFacility(GameObject go)
+    {
+        final Integer key = trackedFacilities.remove(go);
+        if (key == null)
+        {
+            return false;
+        }
+
+        facilityCounts[key]--;
+
+        final int part = key >>> 3;
+        if (facilityCounts[key] > 0 || (key & 7) != highestDetected[part])
+        {
+            return false;
+        }
+
+        int tier = 7;
+        while (tier >= 0 && facilityCounts[(part << 3) | tier] == 0)
+        {
+            tier--;
+        }
+
+        highestDetected[part] = tier;
+        log.debug("FacilityService: removed {}, now {}", PartType.VALUES[part], tier);
+        return true;
+    }
+
+    public void resetAllDetectedTiers()
+    {
+        Arrays.fill(highestDetected, -1);
+        Arrays.fill(facilityCounts, 0);
+        trackedFacilities.clear();
+        hotspotDriven = false;
+        log.debug("FacilityService: Reset all detected tiers to -1");
+    }
+
+    // Every facility object, grouped as (part, tier, object ids...)
+    @VisibleForTesting
+    static final int[][] FACILITY_OBJECTS = {
+            facility(PartType.SALVAGING_HOOK, 0,
+                    ObjectID.SALVAGING_HOOK_RAFT_BRONZE,
+                    ObjectID.SALVAGING_HOOK_BRONZE,
+                    ObjectID.SALVAGING_HOOK_LARGE_BRONZE,
+                    ObjectID.SALVAGING_HOOK_LARGE_BRONZE_B),
+            facility(PartType.SALVAGING_HOOK, 1,
+                    ObjectID.SALVAGING_HOOK_RAFT_IRON,
+                    ObjectID.SALVAGING_HOOK_IRON,
+                    ObjectID.SALVAGING_HOOK_LARGE_IRON,
+                    ObjectID.SALVAGING_HOOK_LARGE_IRON_B),
+            facility(PartType.SALVAGING_HOOK, 2,
+                    ObjectID.SALVAGING_HOOK_RAFT_STEEL,
+                    ObjectID.SALVAGING_HOOK_STEEL,
+                    ObjectID.SALVAGING_HOOK_LARGE_STEEL,
+                    ObjectID.SALVAGING_HOOK_LARGE_STEEL_B),
+            facility(PartType.SALVAGING_HOOK, 3,
+                    ObjectID.SALVAGING_HOOK_RAFT_MITHRIL,
+                    ObjectID.SALVAGING_HOOK_MITHRIL,
+                    ObjectID.SALVAGING_HOOK_LARGE_MITHRIL,
+                    ObjectID.SALVAGING_HOOK_LARGE_MITHRIL_B),
+            facility(PartType.SALVAGING_HOOK, 4,
+                    ObjectID.SALVAGING_HOOK_RAFT_ADAMANT,
+                    ObjectID.SALVAGING_HOOK_ADAMANT,
+                    ObjectID.SALVAGING_HOOK_LARGE_ADAMANT,
+                    ObjectID.SALVAGING_HOOK_LARGE_ADAMANT_B),
+            facility(PartType.SALVAGING_HOOK, 5,
+                    ObjectID.SALVAGING_HOOK_RAFT_RUNE,
+                    ObjectID.SALVAGING_HOOK_RUNE,
+                    ObjectID.SALVAGING_HOOK_LARGE_RUNE,
+                    ObjectID.SALVAGING_HOOK_LARGE_RUNE_B),
+            facility(PartType.SALVAGING_HOOK, 6,
+                    ObjectID.SALVAGING_HOOK_RAFT_DRAGON,
+                    ObjectID.SALVAGING_HOOK_DRAGON,
+                    ObjectID.SALVAGING_HOOK_LARGE_DRAGON,
+                    ObjectID.SALVAGING_HOOK_LARGE_DRAGON_B),
+            facility(PartType.CARGO_HOLD, 0,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE_OPEN),
+            facility(PartType.CARGO_HOLD, 1,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE_OPEN),
+            facility(PartType.CARGO_HOLD, 2,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE_OPEN),
+            facility(PartType.CARGO_HOLD, 3,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE_OPEN),
+            facility(PartType.CARGO_HOLD, 4,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE_OPEN),
+            facility(PartType.CARGO_HOLD, 5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE_OPEN),
+            facility(PartType.CARGO_HOLD, 6,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5_OPEN,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE,
+                    ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_OPEN),
+            facility(PartType.CANNON, 0, ObjectID.SAILING_BRONZE_CANNON),
+            facility(PartType.CANNON, 1, ObjectID.SAILING_IRON_CANNON),
+            facility(PartType.CANNON, 2, ObjectID.SAILING_STEEL_CANNON),
+            facility(PartType.CANNON, 3, ObjectID.SAILING_MITHRIL_CANNON),
+            facility(PartType.CANNON, 4, ObjectID.SAILING_ADAMANT_CANNON),
+            facility(PartType.CANNON, 5, ObjectID.SAILING_RUNE_CANNON),
+            facility(PartType.CANNON, 6, ObjectID.SAILING_DRAGON_CANNON),
+            facility(PartType.TELEPORT_FOCUS, 0, ObjectID.SAILING_TELEPORTATION_FOCUS),
+            facility(PartType.TELEPORT_FOCUS, 1, ObjectID.SAILING_TELEPORTATION_FOCUS_GREATER),
+            facility(PartType.WIND_DEVICE, 0,
+                    ObjectID.SAILING_WIND_CATCHER_ACTIVATED,
+                    ObjectID.SAILING_WIND_CATCHER_DEACTIVATED),
+            facility(PartType.WIND_DEVICE, 1,
+                    ObjectID.SAILING_GALE_CATCHER_ACTIVATED,
+                    ObjectID.SAILING_GALE_CATCHER_DEACTIVATED),
+            facility(PartType.TRAWLING_NET, 0,
+                    ObjectID.SAILING_ROPE_TRAWLING_NET,
+                    ObjectID.SAILING_ROPE_TRAWLING_NET_3X8_STARBOARD,
+                    ObjectID.SAILING_ROPE_TRAWLING_NET_3X8_PORT),
+            facility(PartType.TRAWLING_NET, 1,
+                    ObjectID.SAILING_LINEN_TRAWLING_NET,
+                    ObjectID.SAILING_LINEN_TRAWLING_NET_3X8_STARBOARD,
+                    ObjectID.SAILING_LINEN_TRAWLING_NET_3X8_PORT),
+            facility(PartType.TRAWLING_NET, 2,
+                    ObjectID.SAILING_HEMP_TRAWLING_NET,
+                    ObjectID.SAILING_HEMP_TRAWLING_NET_3X8_STARBOARD,
+                    ObjectID.SAILING_HEMP_TRAWLING_NET_3X8_PORT),
+            facility(PartType.TRAWLING_NET, 3,
+                    ObjectID.SAILING_COTTON_TRAWLING_NET,
+                    ObjectID.SAILING_COTTON_TRAWLING_NET_3X8_STARBOARD,
+                    ObjectID.SAILING_COTTON_TRAWLING_NET_3X8_PORT),
+            facility(PartType.CHUM_STATION, 0,
+                    ObjectID.CHUM_STATION_2X5A,
+                    ObjectID.CHUM_STATION_2X5B,
+                    ObjectID.CHUM_STATION_3X8A,
+                    ObjectID.CHUM_STATION_3X8B),
+            facility(PartType.CHUM_STATION, 1,
+                    ObjectID.CHUM_STATION_ADVANCED_2X5A,
+                    ObjectID.CHUM_STATION_ADVANCED_2X5B,
+                    ObjectID.CHUM_STATION_ADVANCED_3X8A,
+                    ObjectID.CHUM_STATION_ADVANCED_3X8B),
+            facility(PartType.CHUM_STATION, 2,
+                    ObjectID.CHUM_SPREADER_2X5A,
+                    ObjectID.CHUM_SPREADER_2X5B,
+                    ObjectID.CHUM_SPREADER_3X8A,
+                    ObjectID.CHUM_SPREADER_3X8B),
+            facility(PartType.FATHOM_DEVICE, 0, ObjectID.SAILING_FATHOM_PEARL),
+            facility(PartType.FATHOM_DEVICE, 1, ObjectID.SAILING_FATHOM_STONE),
+            facility(PartType.RANGE, 0, ObjectID.SAILING_FACILITY_RANGE),
+            facility(PartType.KEG, 0,
+                    ObjectID.SAILING_KEG_EMPTY,
+                    ObjectID.SAILING_KEG_GROG,
+                    ObjectID.SAILING_KEG_CIDER,
+                    ObjectID.SAILING_KEG_WHIRLPOOL_SURPRISE,
+                    ObjectID.SAILING_KEG_KRAKEN_INK_STOUT,
+                    ObjectID.SAILING_KEG_PERILDANCE_BITTER,
+                    ObjectID.SAILING_KEG_TRAWLERS_TRUST,
+                    ObjectID.SAILING_KEG_HORIZONS_LURE),
+            facility(PartType.ANCHOR, 0,
+                    ObjectID.SAILING_ANCHOR_RAISED_2X5,
+                    ObjectID.SAILING_ANCHOR_LOWERED_2X5,
+                    ObjectID.SAILING_ANCHOR_RAISED_3X8,
+                    ObjectID.SAILING_ANCHOR_LOWERED_3X8),
+            facility(PartType.INOCULATION_STATION, 0,
+                    ObjectID.SAILING_FACILITY_2X5_INOCULATION_STATION,
+                    ObjectID.SAILING_FACILITY_2X5_INOCULATION_STATION_NOOP,
+                    ObjectID.SAILING_FACILITY_3X8_INOCULATION_STATION),
+            facility(PartType.SALVAGING_STATION, 0,
+                    ObjectID.SAILING_SALVAGING_STATION_2X5A,
+                    ObjectID.SAILING_SALVAGING_STATION_2X5B,
+                    ObjectID.SAILING_SALVAGING_STATION_3X8),
+            facility(PartType.CRYSTAL_EXTRACTOR, 0,
+                    ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED,
+                    ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED),
+            facility(PartType.ETERNAL_BRAZIER, 0,
+                    ObjectID.SAILING_BOAT_1X3_ETERNAL_BRAZIER,
+                    ObjectID.SAILING_BOAT_SKIFF_ETERNAL_BRAZIER,
+                    ObjectID.SAILING_BOAT_SLOOP_ETERNAL_BRAZIER,
+                    ObjectID.SAILING_BOAT_ETERNAL_BRAZIER_UI)
+    };
+
+    // Dense lookup over the facility object id range, each slot holds (part ordinal << 3 | tier) + 1, 0 for a miss
+    private static final int FACILITY_ID_MIN;
+    private static final short[] FACILITY_LOOKUP;
+
+    static
+    {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int[] facility : FACILITY_OBJECTS)
+        {
+            for (int i = 2; i < facility.length; i++)
             {
-                highestDetected.put(partName, tier);
-                return;
+                min = Math.min(min, facility[i]);
+                max = Math.max(max, facility[i]);
             }
+        }
 
-            if (tier > cur)
+        FACILITY_ID_MIN = min;
+        FACILITY_LOOKUP = new short[max - min + 1];
+
+        for (int[] facility : FACILITY_OBJECTS)
+        {
+            for (int i = 2; i < facility.length; i++)
             {
-                highestDetected.put(partName, tier);
-                log.debug("FacilityService: updated {} -> {}", partName, tier);
+                FACILITY_LOOKUP[facility[i] - min] = (short) (((facility[0] << 3) | facility[1]) + 1);
             }
+        }
     }
 
-    public void resetAllDetectedTiers()
+    private static int[] facility(PartType part, int tier, int... objectIds)
     {
-            for (String key : highestDetected.keySet())
-            {
-                highestDetected.put(key, -1);
-            }
-            log.debug("FacilityService: Reset all detected tiers to -1");
+        int[] facility = new int[objectIds.length + 2];
+        facility[0] = part.ordinal();
+        facility[1] = tier;
+        System.arraycopy(objectIds, 0, facility, 2, objectIds.length);
+        return facility;
     }
 
-    private int salvageHookIdToTier(int id)
+    /**
+     * Resolves an object id to its facility in a single array probe
+     *
+     * @return (part ordinal << 3 | tier) + 1, or 0 if the object is not a facility
+     */
+    @VisibleForTesting
+    static int classifyObject(int objectId)
     {
-        if (SALVAGING_HOOK_BRONZE.contains(id)) return 0;
-        if (SALVAGING_HOOK_IRON.contains(id)) return 1;
-        if (SALVAGING_HOOK_STEEL.contains(id)) return 2;
-        if (SALVAGING_HOOK_MITHRIL.contains(id)) return 3;
-        if (SALVAGING_HOOK_ADAMANT.contains(id)) return 4;
-        if (SALVAGING_HOOK_RUNE.contains(id)) return 5;
-        if (SALVAGING_HOOK_DRAGON.contains(id)) return 6;
-        return -1;
-    }
-
-    private int cargoIdToTier(int id)
-    {
-        if (CARGO_HOLD_REGULAR.contains(id)) return 0;
-        if (CARGO_HOLD_OAK.contains(id)) return 1;
-        if (CARGO_HOLD_TEAK.contains(id)) return 2;
-        if (CARGO_HOLD_MAHOGANY.contains(id)) return 3;
-        if (CARGO_HOLD_CAMPHOR.contains(id)) return 4;
-        if (CARGO_HOLD_IRONWOOD.contains(id)) return 5;
-        if (CARGO_HOLD_ROSEWOOD.contains(id)) return 6;
-        return -1;
-    }
-
-    private int cannonIdToTier(int id)
-    {
-        if (CANNON_BRONZE.contains(id)) return 0;
-        if (CANNON_IRON.contains(id)) return 1;
-        if (CANNON_STEEL.contains(id)) return 2;
-        if (CANNON_MITHRIL.contains(id)) return 3;
-        if (CANNON_ADAMANT.contains(id)) return 4;
-        if (CANNON_RUNE.contains(id)) return 5;
-        if (CANNON_DRAGON.contains(id)) return 6;
-        return -1;
-    }
-
-    private int teleportFocusIdToTier(int id)
-    {
-        if (TELEPORT_FOCUS.contains(id)) return 0;
-        if (TELEPORT_FOCUS_GREATER.contains(id)) return 1;
-        return -1;
-    }
-
-    private int windIdToTier(int id)
-    {
-        if (WIND_CATCHER.contains(id)) return 0;
-        if (GALE_CATCHER.contains(id)) return 1;
-        return -1;
-    }
-
-    private int trawlingIdToTier(int id)
-    {
-        if (TRAWLING_NET_ROPE.contains(id)) return 0;
-        if (TRAWLING_NET_LINEN.contains(id)) return 1;
-        if (TRAWLING_NET_HEMP.contains(id)) return 2;
-        if (TRAWLING_NET_COTTON.contains(id)) return 3;
-        return -1;
-    }
-
-    private int chumIdToTier(int id)
-    {
-        if (CHUM_STATION.contains(id)) return 0;
-        if (CHUM_STATION_ADVANCED.contains(id)) return 1;
-        if (CHUM_SPREADER.contains(id)) return 2;
-        return -1;
-    }
-
-    private int fathomIdToTier(int id)
-    {
-        if (FATHOM_PEARL.contains(id)) return 0;
-        if (FATHOM_STONE.contains(id)) return 1;
-        return -1;
-    }
-
-    private static final Set<Integer> SALVAGING_HOOK_BRONZE = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_BRONZE,
-            ObjectID.SALVAGING_HOOK_BRONZE,
-            ObjectID.SALVAGING_HOOK_LARGE_BRONZE,
-            ObjectID.SALVAGING_HOOK_LARGE_BRONZE_B
-    );
-    private static final Set<Integer> SALVAGING_HOOK_IRON = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_IRON,
-            ObjectID.SALVAGING_HOOK_IRON,
-            ObjectID.SALVAGING_HOOK_LARGE_IRON,
-            ObjectID.SALVAGING_HOOK_LARGE_IRON_B
-    );
-    private static final Set<Integer> SALVAGING_HOOK_STEEL = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_STEEL,
-            ObjectID.SALVAGING_HOOK_STEEL,
-            ObjectID.SALVAGING_HOOK_LARGE_STEEL,
-            ObjectID.SALVAGING_HOOK_LARGE_STEEL_B
-    );
-    private static final Set<Integer> SALVAGING_HOOK_MITHRIL = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_MITHRIL,
-            ObjectID.SALVAGING_HOOK_MITHRIL,
-            ObjectID.SALVAGING_HOOK_LARGE_MITHRIL,
-            ObjectID.SALVAGING_HOOK_LARGE_MITHRIL_B
-    );
-    private static final Set<Integer> SALVAGING_HOOK_ADAMANT = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_ADAMANT,
-            ObjectID.SALVAGING_HOOK_ADAMANT,
-            ObjectID.SALVAGING_HOOK_LARGE_ADAMANT,
-            ObjectID.SALVAGING_HOOK_LARGE_ADAMANT_B
-    );
-    private static final Set<Integer> SALVAGING_HOOK_RUNE = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_RUNE,
-            ObjectID.SALVAGING_HOOK_RUNE,
-            ObjectID.SALVAGING_HOOK_LARGE_RUNE,
-            ObjectID.SALVAGING_HOOK_LARGE_RUNE_B
-    );
-    private static final Set<Integer> SALVAGING_HOOK_DRAGON = Set.of(
-            ObjectID.SALVAGING_HOOK_RAFT_DRAGON,
-            ObjectID.SALVAGING_HOOK_DRAGON,
-            ObjectID.SALVAGING_HOOK_LARGE_DRAGON,
-            ObjectID.SALVAGING_HOOK_LARGE_DRAGON_B
-    );
-
-    private static final Set<Integer> CARGO_HOLD_REGULAR = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_REGULAR_LARGE_OPEN
-    );
-    private static final Set<Integer> CARGO_HOLD_OAK = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_OAK_LARGE_OPEN
-    );
-    private static final Set<Integer> CARGO_HOLD_TEAK = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_TEAK_LARGE_OPEN
-    );
-    private static final Set<Integer> CARGO_HOLD_MAHOGANY = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_MAHOGANY_LARGE_OPEN
-    );
-    private static final Set<Integer> CARGO_HOLD_CAMPHOR = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_CAMPHOR_LARGE_OPEN
-    );
-    private static final Set<Integer> CARGO_HOLD_IRONWOOD = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_IRONWOOD_LARGE_OPEN
-    );
-    private static final Set<Integer> CARGO_HOLD_ROSEWOOD = Set.of(
-            ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_RAFT_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_2X5_OPEN,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE,
-            ObjectID.SAILING_BOAT_CARGO_HOLD_ROSEWOOD_LARGE_OPEN
-    );
-
-    private static final Set<Integer> TELEPORT_FOCUS = Set.of(ObjectID.SAILING_TELEPORTATION_FOCUS);
-    private static final Set<Integer> TELEPORT_FOCUS_GREATER = Set.of(ObjectID.SAILING_TELEPORTATION_FOCUS_GREATER);
-
-    private static final Set<Integer> CANNON_BRONZE = Set.of(ObjectID.SAILING_BRONZE_CANNON);
-    private static final Set<Integer> CANNON_IRON = Set.of(ObjectID.SAILING_IRON_CANNON);
-    private static final Set<Integer> CANNON_STEEL = Set.of(ObjectID.SAILING_STEEL_CANNON);
-    private static final Set<Integer> CANNON_MITHRIL = Set.of(ObjectID.SAILING_MITHRIL_CANNON);
-    private static final Set<Integer> CANNON_ADAMANT = Set.of(ObjectID.SAILING_ADAMANT_CANNON);
-    private static final Set<Integer> CANNON_RUNE = Set.of(ObjectID.SAILING_RUNE_CANNON);
-    private static final Set<Integer> CANNON_DRAGON = Set.of(ObjectID.SAILING_DRAGON_CANNON);
-    private static final Set<Integer> WIND_CATCHER = Set.of(
-            ObjectID.SAILING_WIND_CATCHER_ACTIVATED,
-            ObjectID.SAILING_WIND_CATCHER_DEACTIVATED
-    );
-    private static final Set<Integer> GALE_CATCHER = Set.of(
-            ObjectID.SAILING_GALE_CATCHER_ACTIVATED,
-            ObjectID.SAILING_GALE_CATCHER_DEACTIVATED
-    );
-
-    private static final Set<Integer> TRAWLING_NET_ROPE = Set.of(
-            ObjectID.SAILING_ROPE_TRAWLING_NET,
-            ObjectID.SAILING_ROPE_TRAWLING_NET_3X8_STARBOARD,
-            ObjectID.SAILING_ROPE_TRAWLING_NET_3X8_PORT
-    );
-    private static final Set<Integer> TRAWLING_NET_LINEN = Set.of(
-            ObjectID.SAILING_LINEN_TRAWLING_NET,
-            ObjectID.SAILING_LINEN_TRAWLING_NET_3X8_STARBOARD,
-            ObjectID.SAILING_LINEN_TRAWLING_NET_3X8_PORT
-    );
-    private static final Set<Integer> TRAWLING_NET_HEMP = Set.of(
-            ObjectID.SAILING_HEMP_TRAWLING_NET,
-            ObjectID.SAILING_HEMP_TRAWLING_NET_3X8_STARBOARD,
-            ObjectID.SAILING_HEMP_TRAWLING_NET_3X8_PORT
-    );
-    private static final Set<Integer> TRAWLING_NET_COTTON = Set.of(
-            ObjectID.SAILING_COTTON_TRAWLING_NET,
-            ObjectID.SAILING_COTTON_TRAWLING_NET_3X8_STARBOARD,
-            ObjectID.SAILING_COTTON_TRAWLING_NET_3X8_PORT
-    );
-    private static final Set<Integer> CHUM_STATION = Set.of(
-            ObjectID.CHUM_STATION_2X5A,
-            ObjectID.CHUM_STATION_2X5B,
-            ObjectID.CHUM_STATION_3X8A,
-            ObjectID.CHUM_STATION_3X8B
-    );
-    private static final Set<Integer> CHUM_STATION_ADVANCED = Set.of(
-            ObjectID.CHUM_STATION_ADVANCED_2X5A,
-            ObjectID.CHUM_STATION_ADVANCED_2X5B,
-            ObjectID.CHUM_STATION_ADVANCED_3X8A,
-            ObjectID.CHUM_STATION_ADVANCED_3X8B
-    );
-    private static final Set<Integer> CHUM_SPREADER = Set.of(
-            ObjectID.CHUM_SPREADER_2X5A,
-            ObjectID.CHUM_SPREADER_2X5B,
-            ObjectID.CHUM_SPREADER_3X8A,
-            ObjectID.CHUM_SPREADER_3X8B
-    );
-    private static final Set<Integer> FATHOM_STONE = Set.of(ObjectID.SAILING_FATHOM_STONE);
-    private static final Set<Integer> FATHOM_PEARL = Set.of(ObjectID.SAILING_FATHOM_PEARL);
-    private static final Set<Integer> RANGE = Set.of(ObjectID.SAILING_FACILITY_RANGE);
-    private static final Set<Integer> KEG = Set.of(
-            ObjectID.SAILING_KEG_EMPTY,
-            ObjectID.SAILING_KEG_GROG,
-            ObjectID.SAILING_KEG_CIDER,
-            ObjectID.SAILING_KEG_WHIRLPOOL_SURPRISE,
-            ObjectID.SAILING_KEG_KRAKEN_INK_STOUT,
-            ObjectID.SAILING_KEG_PERILDANCE_BITTER,
-            ObjectID.SAILING_KEG_TRAWLERS_TRUST,
-            ObjectID.SAILING_KEG_HORIZONS_LURE
-    );
-    private static final Set<Integer> ANCHOR = Set.of(
-            ObjectID.SAILING_ANCHOR_RAISED_2X5,
-            ObjectID.SAILING_ANCHOR_LOWERED_2X5,
-            ObjectID.SAILING_ANCHOR_RAISED_3X8,
-            ObjectID.SAILING_ANCHOR_LOWERED_3X8
-    );
-    private static final Set<Integer> INOCULATION_STATION = Set.of(
-            ObjectID.SAILING_FACILITY_2X5_INOCULATION_STATION,
-            ObjectID.SAILING_FACILITY_2X5_INOCULATION_STATION_NOOP,
-            ObjectID.SAILING_FACILITY_3X8_INOCULATION_STATION
-    );
-    private static final Set<Integer> SALVAGING_STATION = Set.of(
-            ObjectID.SAILING_SALVAGING_STATION_2X5A,
-            ObjectID.SAILING_SALVAGING_STATION_2X5B,
-            ObjectID.SAILING_SALVAGING_STATION_3X8
-    );
-    private static final Set<Integer> CRYSTAL_EXTRACTOR = Set.of(
-            ObjectID.SAILING_CRYSTAL_EXTRACTOR_ACTIVATED,
-            ObjectID.SAILING_CRYSTAL_EXTRACTOR_DEACTIVATED
-    );
-    private static final Set<Integer> ETERNAL_BRAZIER = Set.of(
-            ObjectID.SAILING_BOAT_1X3_ETERNAL_BRAZIER,
-            ObjectID.SAILING_BOAT_SKIFF_ETERNAL_BRAZIER,
-            ObjectID.SAILING_BOAT_SLOOP_ETERNAL_BRAZIER,
-            ObjectID.SAILING_BOAT_ETERNAL_BRAZIER_UI
-    );
-}
\ No newline at end of file
+        final int index = objectId - FACILITY_ID_MIN;
+        if (index < 0 || index >= FACILITY_LOOKUP.length)
+        {
+            return 0;
+        }
+
+        return FACILITY_LOOKUP[index];
+    }
+}
@@ -0,0 +1,226 @@
+package com.boatupgrades;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.gameval.VarbitID;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Maps (boat type, hotspot index, hotspot varbit value) to the facility (part, tier) it holds
+ * Entries are loaded from hotspot_facilities.txt, lookup only ever answers from those
+ * The learning mode compares hotspot varbits against the results of the object scan and keeps what it learns apart,
+ * learned rows only drive detection once they are exported through ::boatvars and shipped in the resource
+ */
+@Slf4j
+public class HotspotFacilityTable
+{
+    static final int[] HOTSPOT_VARBITS = {
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT0,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT1,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT2,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT3,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT4,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT5,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT6,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT7,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT8,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT9,
+            VarbitID.SAILING_SIDEPANEL_FACILITY_HOTSPOT10
+    };
+
+    // Returned by lookup when the table has no entry for the hotspot value
+    static final int UNKNOWN = -1;
+
+    // Scans a hotspot value must be seen in, always narrowing to the same facility, before it counts as learned
+    static final int LEARN_MIN_OBSERVATIONS = 3;
+
+    private static final String TABLE_RESOURCE = "hotspot_facilities.txt";
+
+    // (boat type, hotspot, value) -> (part ordinal << 3 | tier), shipped rows only
+    private final Map<Long, Integer> entries = new HashMap<>();
+    // Boat types with at least one shipped entry
+    private final Set<Integer> boatTypes = new HashSet<>();
+    // Learning mode: facility keys still consistent with every observation of an unresolved hotspot value
+    private final Map<Long, BitSet> candidates = new HashMap<>();
+    // Learning mode: scans each unresolved hotspot value was seen in
+    private final Map<Long, Integer> observations = new HashMap<>();
+    // Learning mode: rows learned this session in learn order, kept out of lookup until shipped
+    private final Map<Long, Integer> learned = new LinkedHashMap<>();
+
+    public static HotspotFacilityTable load()
+    {
+        HotspotFacilityTable table = new HotspotFacilityTable();
+
+        try (InputStream is = HotspotFacilityTable.class.getResourceAsStream(TABLE_RESOURCE))
+        {
+            if (is == null)
+            {
+                log.debug("Hotspot table resource not found at {}", TABLE_RESOURCE);
+                return table;
+            }
+
+            BufferedReader r = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = r.readLine()) != null)
+            {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#"))
+                {
+                    continue;
+                }
+
+                try
+                {
+                    String[] cols = line.split(",");
+                    final int boatType = Integer.parseInt(cols[0].trim());
+                    table.entries.put(
+                            key(boatType, Integer.parseInt(cols[1].trim()), Integer.parseInt(cols[2].trim())),
+                            (PartType.valueOf(cols[3].trim()).ordinal() << 3) | Integer.parseInt(cols[4].trim())
+                    );
+                    table.boatTypes.add(boatType);
+                }
+                catch (RuntimeException e)
+                {
+                    log.warn("Skipping malformed hotspot table line '{}'", line);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            log.warn("Failed to load hotspot table", e);
+        }
+
+        return table;
+    }
+
+    private static long key(int boatType, int hotspot, int value)
+    {
+        return ((long) boatType << 40) | ((long) hotspot << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return (part ordinal << 3 | tier) from the shipped rows, or UNKNOWN
+     */
+    public int lookup(int boatType, int hotspot, int value)
+    {
+        Integer facility = entries.get(key(boatType, hotspot, value));
+        return facility != null ? facility : UNKNOWN;
+    }
+
+    // Shipped or learned this session, only the learner may trust the latter
+    private int lookupKnown(int boatType, int hotspot, int value)
+    {
+        final long key = key(boatType, hotspot, value);
+        Integer facility = entries.get(key);
+        if (facility == null)
+        {
+            facility = learned.get(key);
+        }
+        return facility != null ? facility : UNKNOWN;
+    }
+
+    public boolean hasBoatType(int boatType)
+    {
+        return boatTypes.contains(boatType);
+    }
+
+    /**
+     * Narrows the candidates of every occupied hotspot with one scan result
+     * A hotspot value resolves once it was seen in LEARN_MIN_OBSERVATIONS scans and a single facility is consistent
+     * with every one of them
+     *
+     * @param hotspotValues hotspot varbit values, 0 is an empty hotspot
+     * @param facilityCounts scanned object count per (part ordinal << 3 | tier)
+     * @return the number of hotspot values resolved by this observation
+     */
+    public int learn(int boatType, int[] hotspotValues, int[] facilityCounts)
+    {
+        // Facilities already explained by known hotspots cannot belong to the unknown ones
+        final int[] unexplained = facilityCounts.clone();
+        for (int i = 0; i < hotspotValues.length; i++)
+        {
+            int facility = hotspotValues[i] != 0 ? lookupKnown(boatType, i, hotspotValues[i]) : UNKNOWN;
+            if (facility != UNKNOWN && unexplained[facility] > 0)
+            {
+                unexplained[facility]--;
+            }
+        }
+
+        final BitSet observed = new BitSet(unexplained.length);
+        for (int facility = 0; facility < unexplained.length; facility++)
+        {
+            if (unexplained[facility] > 0)
+            {
+                observed.set(facility);
+            }
+        }
+
+        int resolved = 0;
+        for (int i = 0; i < hotspotValues.length; i++)
+        {
+            if (hotspotValues[i] == 0 || lookupKnown(boatType, i, hotspotValues[i]) != UNKNOWN)
+            {
+                continue;
+            }
+
+            final long key = key(boatType, i, hotspotValues[i]);
+            BitSet remaining = candidates.get(key);
+            if (remaining == null)
+            {
+                remaining = (BitSet) observed.clone();
+                candidates.put(key, remaining);
+            }
+            else
+            {
+                remaining.and(observed);
+            }
+
+            final int seen = observations.merge(key, 1, Integer::sum);
+
+            if (remaining.cardinality() == 1 && seen >= LEARN_MIN_OBSERVATIONS)
+            {
+                int facility = remaining.nextSetBit(0);
+                learned.put(key, facility);
+                candidates.remove(key);
+                observations.remove(key);
+                resolved++;
+
+                log.info("Hotspot learned: boatType={}, hotspot={}, value={} -> {} tier {}",
+                        boatType, i, hotspotValues[i], PartType.VALUES[facility >>> 3], facility & 7);
+            }
+            else if (remaining.isEmpty())
+            {
+                // Contradicting observations, start over from the next scan
+                candidates.remove(key);
+                observations.remove(key);
+            }
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Learned entries in the hotspot_facilities.txt format, ready to be added to the resource
+     */
+    public String exportLearned()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Long, Integer> entry : learned.entrySet())
+        {
+            final long key = entry.getKey();
+            final int facility = entry.getValue();
+            sb.append(key >>> 40).append(',')
+                    .append((key >>> 32) & 0xFF).append(',')
+                    .append((int) key).append(',')
+                    .append(PartType.VALUES[facility >>> 3].name()).append(',')
+                    .append(facility & 7)
+                    .append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
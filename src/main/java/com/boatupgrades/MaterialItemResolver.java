@@ -0,0 +1,277 @@
+package com.boatupgrades;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.ItemComposition;
+import net.runelite.client.callback.ClientThread;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Resolves the item ids of catalog materials that have none, once per plugin version
+ * The item definitions are walked in slices on the client thread and the result is persisted in the config,
+ * later sessions apply the stored ids at startup without touching the definitions
+ * Definitions are read straight from the client, going through ItemManager would flush its composition cache
+ * A name shared by several items resolves to the one that is tradeable and notable, a name with no single such
+ * item stays unresolved and belongs in UpgradeData.KNOWN_ITEM_IDS
+ */
+@Slf4j
+@Singleton
+public class MaterialItemResolver
+{
+    // Item definitions read per client thread invocation
+    private static final int ITEMS_PER_SLICE = 2000;
+
+    private final Client client;
+    private final ClientThread clientThread;
+    private final BoatUpgradesConfig config;
+
+    private boolean unresolvedReported;
+    // Bumped by start and stop, a slice scheduled under an older generation ends the walk without saving
+    private volatile int generation;
+
+    @Inject
+    public MaterialItemResolver(Client client, ClientThread clientThread, BoatUpgradesConfig config)
+    {
+        this.client = client;
+        this.clientThread = clientThread;
+        this.config = config;
+    }
+
+    // Progress of one walk over the item definitions, only touched on the client thread
+    private static final class Walk
+    {
+        final int generation;
+        final Map<String, UpgradeData.Material> pending;
+        // Best candidate per material id so far, with its score and whether another item scored the same
+        final int[] bestItemId = new int[UpgradeData.materialCount()];
+        final int[] bestScore = new int[UpgradeData.materialCount()];
+        final boolean[] tied = new boolean[UpgradeData.materialCount()];
+        int nextItemId;
+
+        Walk(int generation, Map<String, UpgradeData.Material> pending)
+        {
+            this.generation = generation;
+            this.pending = pending;
+            Arrays.fill(bestItemId, -1);
+            Arrays.fill(bestScore, -1);
+        }
+    }
+
+    public void start()
+    {
+        ++generation;
+
+        if (applyStored(config.materialItemIds()))
+        {
+            reportUnresolved();
+            return;
+        }
+
+        final Map<String, UpgradeData.Material> pending = new HashMap<>();
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            if (material.getItemId() < 0)
+            {
+                pending.put(material.name, material);
+            }
+        }
+
+        if (pending.isEmpty())
+        {
+            save();
+            return;
+        }
+
+        final Walk walk = new Walk(generation, pending);
+        clientThread.invokeLater(() -> resolveSlice(walk));
+    }
+
+    /**
+     * Cancels a walk still in progress, its next slice returns without reading or saving anything
+     */
+    public void stop()
+    {
+        generation++;
+    }
+
+    /**
+     * @return true when the stored ids belong to this plugin version and cover every unresolved material
+     */
+    private boolean applyStored(String stored)
+    {
+        if (stored == null || stored.isEmpty())
+        {
+            return false;
+        }
+
+        final int split = stored.indexOf('|');
+        if (split < 0 || !ChangelogService.PLUGIN_VERSION.equals(stored.substring(0, split)))
+        {
+            return false;
+        }
+
+        final Map<String, Integer> ids = new HashMap<>();
+        for (String entry : stored.substring(split + 1).split(","))
+        {
+            final int eq = entry.lastIndexOf('=');
+            if (eq <= 0)
+            {
+                continue;
+            }
+
+            try
+            {
+                ids.put(entry.substring(0, eq), Integer.parseInt(entry.substring(eq + 1)));
+            }
+            catch (NumberFormatException e)
+            {
+                log.warn("Skipping malformed material item id '{}'", entry);
+            }
+        }
+
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            if (material.getItemId() < 0 && !ids.containsKey(material.name))
+            {
+                return false;
+            }
+        }
+
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            Integer id = ids.get(material.name);
+            if (id != null && material.getItemId() < 0)
+            {
+                material.setItemId(id);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs on the client thread until every item definition was read or the walk is cancelled
+     * The whole table is always walked, a name can only be called unambiguous once every item was seen
+     */
+    private boolean resolveSlice(Walk walk)
+    {
+        if (walk.generation != generation)
+        {
+            log.debug("Material item id walk cancelled at item {}", walk.nextItemId);
+            return true;
+        }
+
+        final GameState state = client.getGameState();
+        if (state == GameState.UNKNOWN || state == GameState.STARTING)
+        {
+            return false;
+        }
+
+        final int itemCount = client.getItemCount();
+        final int end = Math.min(itemCount, walk.nextItemId + ITEMS_PER_SLICE);
+        for (int id = walk.nextItemId; id < end; id++)
+        {
+            ItemComposition composition = client.getItemDefinition(id);
+            if (composition == null || composition.getNote() != -1 || composition.getPlaceholderTemplateId() != -1)
+            {
+                continue;
+            }
+
+            UpgradeData.Material material = walk.pending.get(composition.getName());
+            if (material == null)
+            {
+                continue;
+            }
+
+            // Quest, cosmetic and minigame copies of an item are mostly untradeable and have no note
+            final int score = (composition.isTradeable() ? 2 : 0) + (composition.getLinkedNoteId() != -1 ? 1 : 0);
+            final int m = material.id;
+            if (score > walk.bestScore[m])
+            {
+                walk.bestScore[m] = score;
+                walk.bestItemId[m] = id;
+                walk.tied[m] = false;
+            }
+            else if (score == walk.bestScore[m])
+            {
+                walk.tied[m] = true;
+            }
+        }
+        walk.nextItemId = end;
+
+        if (end < itemCount)
+        {
+            return false;
+        }
+
+        if (walk.generation != generation)
+        {
+            return true;
+        }
+
+        final List<String> ambiguous = new ArrayList<>();
+        for (UpgradeData.Material material : walk.pending.values())
+        {
+            if (walk.tied[material.id])
+            {
+                ambiguous.add(material.name);
+            }
+            else if (walk.bestItemId[material.id] >= 0)
+            {
+                material.setItemId(walk.bestItemId[material.id]);
+            }
+        }
+
+        if (!ambiguous.isEmpty())
+        {
+            log.warn("Several items match {} materials, pin them in UpgradeData.KNOWN_ITEM_IDS: {}", ambiguous.size(), ambiguous);
+        }
+
+        log.debug("Material item ids resolved over {} item definitions", end);
+        save();
+        reportUnresolved();
+        return true;
+    }
+
+    // Materials that stayed unresolved are stored as -1 so later sessions do not walk the definitions again
+    private void save()
+    {
+        final StringJoiner entries = new StringJoiner(",", ChangelogService.PLUGIN_VERSION + "|", "");
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            entries.add(material.name + "=" + material.getItemId());
+        }
+        config.setMaterialItemIds(entries.toString());
+    }
+
+    private void reportUnresolved()
+    {
+        if (unresolvedReported)
+        {
+            return;
+        }
+        unresolvedReported = true;
+
+        final List<String> unresolved = new ArrayList<>();
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            if (material.getItemId() < 0)
+            {
+                unresolved.add(material.name);
+            }
+        }
+
+        if (!unresolved.isEmpty())
+        {
+            log.warn("No item found for {} materials: {}", unresolved.size(), unresolved);
+        }
+    }
+}
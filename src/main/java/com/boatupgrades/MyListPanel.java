@@ -0,0 +1,304 @@
+package com.boatupgrades;
+
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * My list card of BoatUpgradesPanel, the pinned upgrades and the material totals of MyListService
+ * Pinning or unpinning only adds, removes or relabels the rows of that option and its materials
+ * The build path to the pinned tiers of the current boat is replanned on every change, see UpgradePlanner
+ */
+class MyListPanel extends JPanel
+{
+    private static final String[] BOAT_TYPE_NAMES = {"Raft", "Skiff", "Sloop"};
+
+    private final MyListService myListService;
+    private final UpgradePlanner upgradePlanner;
+    private final Consumer<UpgradeData.UpgradeOption> onRemove;
+
+    private final JPanel materialsContainer = new JPanel();
+    private final JPanel pinnedContainer = new JPanel();
+    private final JPanel pathContainer = new JPanel();
+    private UpgradePlanner.Loadout loadout;
+    private final JLabel emptyState = new JLabel("Pin upgrades from the Available tab");
+
+    // Total label per material id, null while no pinned option needs the material
+    private final JLabel[] materialLabels = new JLabel[UpgradeData.materialCount()];
+    private final Map<UpgradeData.UpgradeOption, JPanel> pinnedRows = new HashMap<>();
+
+    MyListPanel(MyListService myListService, UpgradePlanner upgradePlanner, Consumer<UpgradeData.UpgradeOption> onRemove)
+    {
+        this.myListService = myListService;
+        this.upgradePlanner = upgradePlanner;
+        this.onRemove = onRemove;
+
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+        setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        setBorder(new EmptyBorder(10, 10, 10, 10));
+
+        emptyState.setForeground(Color.WHITE);
+        emptyState.setFont(FontManager.getRunescapeFont());
+        emptyState.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        add(emptyState);
+        add(buildSectionLabel("Materials"));
+        add(buildSection(materialsContainer));
+        add(Box.createVerticalStrut(8));
+        add(buildSectionLabel("Pinned upgrades"));
+        add(buildSection(pinnedContainer));
+        add(Box.createVerticalStrut(8));
+        add(buildSectionLabel("Build path"));
+        add(buildSection(pathContainer));
+
+        for (UpgradeData.UpgradeOption opt : myListService.getPinned())
+        {
+            addPinnedRow(opt);
+        }
+        updatePath();
+        updateEmptyState();
+    }
+
+    void setLoadout(UpgradePlanner.Loadout loadout)
+    {
+        if (loadout == this.loadout)
+        {
+            return;
+        }
+
+        this.loadout = loadout;
+        updatePath();
+        revalidate();
+        repaint();
+    }
+
+    void onPinned(UpgradeData.UpgradeOption opt)
+    {
+        if (!addPinnedRow(opt))
+        {
+            return;
+        }
+
+        updatePath();
+        updateEmptyState();
+        revalidate();
+        repaint();
+    }
+
+    private boolean addPinnedRow(UpgradeData.UpgradeOption opt)
+    {
+        if (pinnedRows.containsKey(opt))
+        {
+            return false;
+        }
+
+        JPanel row = buildPinnedRow(opt);
+        pinnedRows.put(opt, row);
+        pinnedContainer.add(row);
+
+        updateMaterials(opt);
+        return true;
+    }
+
+    void onUnpinned(UpgradeData.UpgradeOption opt)
+    {
+        JPanel row = pinnedRows.remove(opt);
+        if (row == null)
+        {
+            return;
+        }
+
+        pinnedContainer.remove(row);
+
+        updateMaterials(opt);
+        updatePath();
+        updateEmptyState();
+        revalidate();
+        repaint();
+    }
+
+    private void updateMaterials(UpgradeData.UpgradeOption opt)
+    {
+        for (int materialId : opt.materialIds)
+        {
+            final int total = myListService.getMaterialTotal(materialId);
+            JLabel label = materialLabels[materialId];
+
+            if (total <= 0)
+            {
+                if (label != null)
+                {
+                    materialsContainer.remove(label);
+                    materialLabels[materialId] = null;
+                }
+                continue;
+            }
+
+            if (label == null)
+            {
+                label = buildSmallLabel("", Color.LIGHT_GRAY);
+                materialLabels[materialId] = label;
+                materialsContainer.add(label, materialPosition(materialId));
+            }
+            label.setText(total + " x " + UpgradeData.material(materialId).name);
+        }
+    }
+
+    // Keeps the material labels in material id order
+    private int materialPosition(int materialId)
+    {
+        int position = 0;
+        for (int id = 0; id < materialId; id++)
+        {
+            if (materialLabels[id] != null)
+            {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Plans from the current tiers to the highest pinned tier of each part of the current boat
+     */
+    private void updatePath()
+    {
+        pathContainer.removeAll();
+
+        if (loadout == null)
+        {
+            pathContainer.add(buildSmallLabel("Board your boat to plan a path", Color.LIGHT_GRAY));
+            return;
+        }
+
+        final int[] targetTiers = new int[PartType.COUNT];
+        Arrays.fill(targetTiers, -1);
+        for (UpgradeData.UpgradeOption opt : myListService.getPinned())
+        {
+            if (opt.boatType == loadout.boatType || opt.boatType == -1)
+            {
+                targetTiers[opt.part.ordinal()] = Math.max(targetTiers[opt.part.ordinal()], opt.targetTier);
+            }
+        }
+
+        final UpgradePlanner.Plan plan = upgradePlanner.plan(loadout, targetTiers);
+        if (plan.steps.isEmpty())
+        {
+            pathContainer.add(buildSmallLabel("Nothing left to build on this boat", Color.LIGHT_GRAY));
+            return;
+        }
+
+        for (UpgradePlanner.Step step : plan.steps)
+        {
+            pathContainer.add(buildSmallLabel(step.option.displayName, Color.WHITE));
+            pathContainer.add(buildSmallLabel("Sailing " + step.sailingGate + ", Construction " + step.constructionGate,
+                    Color.LIGHT_GRAY));
+        }
+
+        pathContainer.add(Box.createVerticalStrut(4));
+        for (int id = 0; id < UpgradeData.materialCount(); id++)
+        {
+            int total = plan.getMaterialTotal(id);
+            if (total > 0)
+            {
+                pathContainer.add(buildSmallLabel(total + " x " + UpgradeData.material(id).name, Color.LIGHT_GRAY));
+            }
+        }
+    }
+
+    private JLabel buildSmallLabel(String text, Color color)
+    {
+        JLabel label = new JLabel(text);
+        label.setFont(FontManager.getRunescapeSmallFont());
+        label.setForeground(color);
+        label.setAlignmentX(Component.LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void updateEmptyState()
+    {
+        final boolean empty = pinnedRows.isEmpty();
+        emptyState.setVisible(empty);
+        for (Component component : getComponents())
+        {
+            if (component != emptyState)
+            {
+                component.setVisible(!empty);
+            }
+        }
+    }
+
+    private JPanel buildPinnedRow(UpgradeData.UpgradeOption opt)
+    {
+        JPanel row = new JPanel(new BorderLayout(6, 0));
+        row.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        row.setBorder(new EmptyBorder(4, 6, 4, 6));
+        row.setAlignmentX(Component.LEFT_ALIGNMENT);
+
+        String name = opt.boatType >= 0 && opt.boatType < BOAT_TYPE_NAMES.length
+                ? opt.displayName + " (" + BOAT_TYPE_NAMES[opt.boatType] + ")"
+                : opt.displayName;
+
+        JLabel title = new JLabel(name);
+        title.setFont(FontManager.getRunescapeSmallFont());
+        title.setForeground(Color.WHITE);
+        row.add(title, BorderLayout.CENTER);
+
+        JLabel remove = new JLabel("x");
+        remove.setFont(FontManager.getRunescapeBoldFont());
+        remove.setForeground(Color.LIGHT_GRAY);
+        remove.setToolTipText("Remove from my list");
+        remove.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        remove.addMouseListener(new MouseAdapter()
+        {
+            @Override
+            public void mousePressed(MouseEvent e)
+            {
+                onRemove.accept(opt);
+            }
+
+            @Override
+            public void mouseEntered(MouseEvent e)
+            {
+                remove.setForeground(ColorScheme.BRAND_ORANGE);
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e)
+            {
+                remove.setForeground(Color.LIGHT_GRAY);
+            }
+        });
+        row.add(remove, BorderLayout.EAST);
+
+        row.setMaximumSize(new Dimension(Integer.MAX_VALUE, row.getPreferredSize().height));
+        return row;
+    }
+
+    private JLabel buildSectionLabel(String text)
+    {
+        JLabel label = new JLabel(text);
+        label.setFont(FontManager.getRunescapeBoldFont());
+        label.setForeground(Color.WHITE);
+        label.setAlignmentX(Component.LEFT_ALIGNMENT);
+        label.setBorder(new EmptyBorder(0, 0, 4, 0));
+        return label;
+    }
+
+    private JPanel buildSection(JPanel container)
+    {
+        container.setLayout(new BoxLayout(container, BoxLayout.Y_AXIS));
+        container.setBackground(ColorScheme.DARKER_GRAY_COLOR);
+        container.setAlignmentX(Component.LEFT_ALIGNMENT);
+        return container;
+    }
+}
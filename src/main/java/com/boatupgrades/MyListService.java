@@ -0,0 +1,159 @@
+package com.boatupgrades;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Upgrades pinned to the My list tab and the running material totals across them
+ * Totals are counters indexed by material id, so pinning or unpinning only touches the materials of that option
+ * Used from the EDT only
+ */
+@Slf4j
+@Singleton
+public class MyListService
+{
+    private final BoatUpgradesConfig config;
+
+    // Pinned options in the order they were pinned
+    private final List<UpgradeData.UpgradeOption> pinned = new ArrayList<>();
+    private final boolean[] pinnedByOrdinal = new boolean[UpgradeData.options().size()];
+    private final int[] materialTotals = new int[UpgradeData.materialCount()];
+
+    @Inject
+    public MyListService(BoatUpgradesConfig config)
+    {
+        this.config = config;
+        load(config.myList());
+    }
+
+    public List<UpgradeData.UpgradeOption> getPinned()
+    {
+        return Collections.unmodifiableList(pinned);
+    }
+
+    public boolean isPinned(UpgradeData.UpgradeOption opt)
+    {
+        return pinnedByOrdinal[opt.ordinal];
+    }
+
+    /**
+     * @return the total quantity of the material over every pinned option
+     */
+    public int getMaterialTotal(int materialId)
+    {
+        return materialTotals[materialId];
+    }
+
+    /**
+     * @return false if opt was already pinned
+     */
+    public boolean pin(UpgradeData.UpgradeOption opt)
+    {
+        if (!add(opt))
+        {
+            return false;
+        }
+
+        save();
+        return true;
+    }
+
+    /**
+     * @return false if opt was not pinned
+     */
+    public boolean unpin(UpgradeData.UpgradeOption opt)
+    {
+        if (!pinnedByOrdinal[opt.ordinal])
+        {
+            return false;
+        }
+
+        pinnedByOrdinal[opt.ordinal] = false;
+        pinned.remove(opt);
+        for (int i = 0; i < opt.materialIds.length; i++)
+        {
+            materialTotals[opt.materialIds[i]] -= opt.quantities[i];
+        }
+
+        save();
+        return true;
+    }
+
+    private boolean add(UpgradeData.UpgradeOption opt)
+    {
+        if (pinnedByOrdinal[opt.ordinal])
+        {
+            return false;
+        }
+
+        pinnedByOrdinal[opt.ordinal] = true;
+        pinned.add(opt);
+        for (int i = 0; i < opt.materialIds.length; i++)
+        {
+            materialTotals[opt.materialIds[i]] += opt.quantities[i];
+        }
+        return true;
+    }
+
+    // Stored as PART:boatType:tier entries, ordinals are not stable across plugin versions
+    private void load(String stored)
+    {
+        if (stored == null || stored.isEmpty())
+        {
+            return;
+        }
+
+        for (String entry : stored.split(","))
+        {
+            try
+            {
+                String[] cols = entry.split(":");
+                PartType part = PartType.valueOf(cols[0]);
+                int boatType = Integer.parseInt(cols[1]);
+                int tier = Integer.parseInt(cols[2]);
+
+                UpgradeData.UpgradeOption opt = findOption(boatType, part, tier);
+                if (opt != null)
+                {
+                    add(opt);
+                }
+                else
+                {
+                    log.debug("Dropping unknown pinned upgrade '{}'", entry);
+                }
+            }
+            catch (RuntimeException e)
+            {
+                log.warn("Skipping malformed pinned upgrade '{}'", entry);
+            }
+        }
+    }
+
+    private static UpgradeData.UpgradeOption findOption(int boatType, PartType part, int tier)
+    {
+        for (UpgradeData.UpgradeOption opt : UpgradeData.getPartOptions(boatType, part))
+        {
+            if (opt.targetTier == tier && opt.boatType == boatType)
+            {
+                return opt;
+            }
+        }
+        return null;
+    }
+
+    private void save()
+    {
+        StringJoiner joiner = new StringJoiner(",");
+        for (UpgradeData.UpgradeOption opt : pinned)
+        {
+            joiner.add(opt.part.name() + ":" + opt.boatType + ":" + opt.targetTier);
+        }
+        config.setMyList(joiner.toString());
+    }
+}
@@ -0,0 +1,8 @@
+package com.boatupgrades;
+
+/**
+ * Posted on the EventBus by OwnedMaterialsService whenever the owned count of a catalog material changes
+ */
+public final class OwnedMaterialsChanged
+{
+}
@@ -0,0 +1,370 @@
+package com.boatupgrades;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.Item;
+import net.runelite.api.ItemContainer;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.WidgetClosed;
+import net.runelite.api.gameval.InterfaceID;
+import net.runelite.api.gameval.InventoryID;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Owned count per material id across the tracked item containers
+ * Each ItemContainerChanged is diffed against the previous counts of its container, so only the materials that
+ * changed touch the totals, and OwnedMaterialsChanged is posted when any did
+ * The bank counts are persisted per RuneScape profile when the bank closes or on logout, and stand in for the bank
+ * while it has not been opened
+ * Boat cargo holds are not tracked yet, their inventory ids are not known here, TRACKED_CONTAINERS is where they go
+ * Used from the client thread only
+ */
+@Slf4j
+@Singleton
+public class OwnedMaterialsService
+{
+    private static final String CONFIG_GROUP = "boatupgrades";
+    private static final String BANK_SNAPSHOT_KEY = "bankMaterials";
+
+    // Containers whose items count as owned, the slot of a container is its index here
+    private static final int[] TRACKED_CONTAINERS = {InventoryID.INV, InventoryID.BANK};
+    private static final int BANK_SLOT = 1;
+
+    // Returned by knownSatisfiedMaterials when the owned count is not worth showing
+    public static final int HIDDEN = -1;
+
+    private final Client client;
+    private final EventBus eventBus;
+    private final ConfigManager configManager;
+
+    private final int[][] containerCounts = new int[TRACKED_CONTAINERS.length][UpgradeData.materialCount()];
+    private final int[] owned = new int[UpgradeData.materialCount()];
+    private final int[] scratchCounts = new int[UpgradeData.materialCount()];
+
+    // Material id + 1 per item id, 0 for items that are no material
+    private int[] materialByItem = new int[0];
+    private int materialByItemVersion = -1;
+    // Materials MaterialItemResolver has no item id for yet, containers cannot count them and keep their last count
+    private int[] unresolvedMaterials = new int[0];
+
+    private boolean bankSnapshotLoaded;
+    // The bank was counted this session or a saved snapshot stands in for it
+    private boolean bankKnown;
+    // Bank counts changed since the snapshot was last saved
+    private boolean bankDirty;
+
+    @Inject
+    public OwnedMaterialsService(Client client, EventBus eventBus, ConfigManager configManager)
+    {
+        this.client = client;
+        this.eventBus = eventBus;
+        this.configManager = configManager;
+    }
+
+    public void start()
+    {
+        eventBus.register(this);
+    }
+
+    public void stop()
+    {
+        eventBus.unregister(this);
+    }
+
+    public int getOwned(int materialId)
+    {
+        return owned[materialId];
+    }
+
+    /**
+     * @return how many of the option's materials are owned in the needed quantity
+     */
+    public int countSatisfiedMaterials(UpgradeData.UpgradeOption opt)
+    {
+        int satisfied = 0;
+        for (int i = 0; i < opt.materialIds.length; i++)
+        {
+            if (owned[opt.materialIds[i]] >= opt.quantities[i])
+            {
+                satisfied++;
+            }
+        }
+        return satisfied;
+    }
+
+    public boolean canBuild(UpgradeData.UpgradeOption opt)
+    {
+        return countSatisfiedMaterials(opt) == opt.materialIds.length;
+    }
+
+    /**
+     * @return countSatisfiedMaterials, or HIDDEN for a partial count while the bank is unknown, since materials
+     * missing from the inventory may well be banked
+     */
+    public int knownSatisfiedMaterials(UpgradeData.UpgradeOption opt)
+    {
+        final int satisfied = countSatisfiedMaterials(opt);
+        return bankKnown || satisfied == opt.materialIds.length ? satisfied : HIDDEN;
+    }
+
+    @Subscribe
+    public void onItemContainerChanged(ItemContainerChanged event)
+    {
+        final int slot = slotOf(event.getContainerId());
+        if (slot < 0)
+        {
+            return;
+        }
+
+        boolean changed = refreshMaterialMapping() && recountOpenContainers();
+        changed |= applyContainer(slot, event.getItemContainer());
+
+        // A bank without materials changes no count but still replaces the unknown state, on screen and in the snapshot
+        if (slot == BANK_SLOT && !bankKnown)
+        {
+            bankKnown = true;
+            bankDirty = true;
+            changed = true;
+        }
+
+        if (changed)
+        {
+            eventBus.post(new OwnedMaterialsChanged());
+        }
+    }
+
+    @Subscribe
+    public void onWidgetClosed(WidgetClosed event)
+    {
+        if (event.getGroupId() == InterfaceID.BANKMAIN)
+        {
+            saveBankSnapshot();
+        }
+    }
+
+    @Subscribe
+    public void onGameStateChanged(GameStateChanged event)
+    {
+        final GameState state = event.getGameState();
+        if (state == GameState.HOPPING)
+        {
+            saveBankSnapshot();
+        }
+        else if (state == GameState.LOGIN_SCREEN)
+        {
+            saveBankSnapshot();
+
+            // The next login may be another account
+            for (int[] counts : containerCounts)
+            {
+                Arrays.fill(counts, 0);
+            }
+            Arrays.fill(owned, 0);
+            bankSnapshotLoaded = false;
+            bankKnown = false;
+        }
+        else if (state == GameState.LOGGED_IN && !bankSnapshotLoaded)
+        {
+            bankSnapshotLoaded = true;
+            if (loadBankSnapshot())
+            {
+                eventBus.post(new OwnedMaterialsChanged());
+            }
+        }
+    }
+
+    private static int slotOf(int containerId)
+    {
+        for (int slot = 0; slot < TRACKED_CONTAINERS.length; slot++)
+        {
+            if (TRACKED_CONTAINERS[slot] == containerId)
+            {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the counts of one container and applies the difference to the owned totals
+     *
+     * @return true if any material count changed
+     */
+    private boolean applyContainer(int slot, ItemContainer container)
+    {
+        final int[] next = scratchCounts;
+        Arrays.fill(next, 0);
+
+        if (container != null)
+        {
+            for (Item item : container.getItems())
+            {
+                final int itemId = item.getId();
+                if (itemId >= 0 && itemId < materialByItem.length && materialByItem[itemId] != 0)
+                {
+                    next[materialByItem[itemId] - 1] += item.getQuantity();
+                }
+            }
+        }
+
+        for (int m : unresolvedMaterials)
+        {
+            next[m] = containerCounts[slot][m];
+        }
+
+        final boolean changed = applyCounts(slot, next);
+        if (changed && slot == BANK_SLOT)
+        {
+            bankDirty = true;
+        }
+        return changed;
+    }
+
+    private boolean applyCounts(int slot, int[] next)
+    {
+        final int[] previous = containerCounts[slot];
+        boolean changed = false;
+        for (int m = 0; m < next.length; m++)
+        {
+            final int delta = next[m] - previous[m];
+            if (delta != 0)
+            {
+                owned[m] += delta;
+                previous[m] = next[m];
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Rebuilds the item to material lookup once MaterialItemResolver has resolved more item ids
+     *
+     * @return true if the lookup changed
+     */
+    private boolean refreshMaterialMapping()
+    {
+        final int version = UpgradeData.itemIdsVersion();
+        if (version == materialByItemVersion)
+        {
+            return false;
+        }
+        materialByItemVersion = version;
+
+        int maxItemId = -1;
+        int unresolved = 0;
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            maxItemId = Math.max(maxItemId, material.getItemId());
+            if (material.getItemId() < 0)
+            {
+                unresolved++;
+            }
+        }
+
+        final int[] unresolvedIds = new int[unresolved];
+
+        final int[] mapping = new int[maxItemId + 1];
+        for (UpgradeData.Material material : UpgradeData.materials())
+        {
+            if (material.getItemId() >= 0)
+            {
+                mapping[material.getItemId()] = material.id + 1;
+            }
+            else
+            {
+                unresolvedIds[--unresolved] = material.id;
+            }
+        }
+        materialByItem = mapping;
+        unresolvedMaterials = unresolvedIds;
+        return true;
+    }
+
+    // Containers counted before the lookup changed may hold items it did not know
+    private boolean recountOpenContainers()
+    {
+        boolean changed = false;
+        for (int slot = 0; slot < TRACKED_CONTAINERS.length; slot++)
+        {
+            ItemContainer container = client.getItemContainer(TRACKED_CONTAINERS[slot]);
+            if (container != null)
+            {
+                changed |= applyContainer(slot, container);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Stored as name:quantity entries, material ids are not stable across plugin versions and item ids may not be
+     * resolved yet when the snapshot is loaded
+     */
+    private void saveBankSnapshot()
+    {
+        if (!bankDirty)
+        {
+            return;
+        }
+        bankDirty = false;
+
+        final int[] counts = containerCounts[BANK_SLOT];
+        final StringJoiner entries = new StringJoiner(",");
+        for (int m = 0; m < counts.length; m++)
+        {
+            if (counts[m] > 0)
+            {
+                entries.add(UpgradeData.material(m).name + ":" + counts[m]);
+            }
+        }
+        configManager.setRSProfileConfiguration(CONFIG_GROUP, BANK_SNAPSHOT_KEY, entries.toString());
+    }
+
+    private boolean loadBankSnapshot()
+    {
+        final String stored = configManager.getRSProfileConfiguration(CONFIG_GROUP, BANK_SNAPSHOT_KEY);
+        if (stored == null)
+        {
+            return false;
+        }
+
+        // An empty snapshot is a bank known to hold no materials
+        bankKnown = true;
+        if (stored.isEmpty())
+        {
+            return true;
+        }
+
+        final int[] next = scratchCounts;
+        Arrays.fill(next, 0);
+        for (String entry : stored.split(","))
+        {
+            final int colon = entry.lastIndexOf(':');
+            try
+            {
+                final UpgradeData.Material material = UpgradeData.material(entry.substring(0, colon));
+                final int quantity = Integer.parseInt(entry.substring(colon + 1));
+                if (material != null)
+                {
+                    next[material.id] += quantity;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                log.warn("Skipping malformed bank snapshot entry '{}'", entry);
+            }
+        }
+
+        applyCounts(BANK_SLOT, next);
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package com.boatupgrades;
+
+/**
+ * Every upgradeable boat part and facility
+ * Tier vectors and config toggles are indexed by ordinal, so the order here is part of the data layout
+ */
+public enum PartType
+{
+    BASE("Base", false, false),
+    HULL("Hull", false, false),
+    HELM("Helm", false, false),
+    SAILS("Sails", false, false),
+    KEEL("Keel", false, false),
+    SALVAGING_HOOK("Salvaging Hook", true, false),
+    CARGO_HOLD("Cargo Hold", true, false),
+    CANNON("Cannon", true, false),
+    TELEPORT_FOCUS("Teleport Focus", true, false),
+    WIND_DEVICE("Wind Device", true, false),
+    TRAWLING_NET("Trawling Net", true, true),
+    CHUM_STATION("Chum Station", true, true),
+    FATHOM_DEVICE("Fathom Device", true, true),
+    RANGE("Range", true, false),
+    KEG("Keg", true, false),
+    ANCHOR("Anchor", true, true),
+    INOCULATION_STATION("Inoculation Station", true, true),
+    SALVAGING_STATION("Salvaging Station", true, true),
+    CRYSTAL_EXTRACTOR("Crystal Extractor", true, true),
+    ETERNAL_BRAZIER("Eternal Brazier", true, false);
+
+    // values() clones its array on every call
+    public static final PartType[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
+    private final String name;
+    private final boolean facility;
+    private final boolean raftExcluded;
+
+    PartType(String name, boolean facility, boolean raftExcluded)
+    {
+        this.name = name;
+        this.facility = facility;
+        this.raftExcluded = raftExcluded;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Facilities are detected by FacilityService, core parts are read from the sidepanel varbits
+     */
+    public boolean isFacility()
+    {
+        return facility;
+    }
+
+    public boolean isRaftExcluded()
+    {
+        return raftExcluded;
+    }
+
+    public int mask()
+    {
+        return 1 << ordinal();
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
@@ -1,415 +1,665 @@
 package com.boatupgrades;
 
+import com.boatupgrades.utils.SchematicUtils;
+import net.runelite.api.gameval.ItemID;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public final class UpgradeData
 {
     private UpgradeData() {}
 
+    /**
+     * Interned material, one instance per name in a static table indexed by id
+     */
     public static final class Material
     {
+        public final int id;
         public final String name;
-        public final int qty;
+        public final String wikiUrl;
+        // RuneLite item id, -1 until resolved
+        private volatile int itemId;
 
-        public Material(String name, int qty)
+        private Material(int id, String name, int itemId)
         {
+            this.id = id;
             this.name = name;
-            this.qty = qty;
+            this.wikiUrl = wikiUrl(name);
+            this.itemId = itemId;
+        }
+
+        public int getItemId()
+        {
+            return itemId;
+        }
+
+        void setItemId(int itemId)
+        {
+            this.itemId = itemId;
+            itemIdsVersion++;
         }
 
         @Override
         public String toString()
         {
-            return qty + " x " + name;
+            return name;
         }
     }
 
     public static final class UpgradeOption
     {
-        public final String partName;
+        // Position in declaration order, stable for the lifetime of the client
+        public final int ordinal;
+        public final PartType part;
         public final int boatType;
         public final int targetTier;
         public final int requiredSailingLevel;
         public final int requiredConstructionLevel;
         public final String displayName;
-        public final List<Material> materials;
-
-        public UpgradeOption(String partName, int boatType, int targetTier, int requiredSailingLevel, int requiredConstructionLevel, String displayName, List<Material> materials)
+        // Parallel arrays, material ids into the material table and the quantity needed of each
+        public final int[] materialIds;
+        public final int[] quantities;
+        // Bit in the SchematicUtils unlock mask, -1 if no schematic is needed
+        public final int schematicIndex;
+
+        // Display metadata, derived once so the overlay and panel only read fields
+        public final String materialsText;
+        public final String schematicName;
+        public final String schematicWikiUrl;
+        public final String wikiUrl;
+        // Icon file names to look up in the icon atlas in order, boat specific first
+        public final String[] iconNames;
+
+        /**
+         * @param materials (material id << 32 | quantity) entries made by mat
+         */
+        public UpgradeOption(PartType part, int boatType, int targetTier, int requiredSailingLevel, int requiredConstructionLevel, String displayName, long... materials)
         {
-            this.partName = partName;
+            this.ordinal = nextOrdinal++;
+            this.part = part;
             this.boatType = boatType;
             this.targetTier = targetTier;
             this.requiredSailingLevel = requiredSailingLevel;
             this.requiredConstructionLevel = requiredConstructionLevel;
             this.displayName = displayName;
-            this.materials = materials == null ? Collections.emptyList() : materials;
+            this.materialIds = new int[materials.length];
+            this.quantities = new int[materials.length];
+            this.schematicIndex = SchematicUtils.schematicIndexOf(displayName);
+
+            StringJoiner mats = new StringJoiner(", ");
+            for (int i = 0; i < materials.length; i++)
+            {
+                materialIds[i] = (int) (materials[i] >>> 32);
+                quantities[i] = (int) materials[i];
+                mats.add(quantities[i] + " x " + MATERIALS.get(materialIds[i]).name);
+            }
+            this.materialsText = mats.toString();
+
+            this.schematicName = schematicIndex < 0 ? null : SchematicUtils.getSchematicName(schematicIndex);
+            this.schematicWikiUrl = schematicName == null ? null : wikiUrl(schematicName);
+            this.wikiUrl = wikiUrl(displayName);
+            this.iconNames = boatType >= 0
+                    ? new String[]{displayName + " " + boatType + ".png", displayName + ".png"}
+                    : new String[]{displayName + ".png"};
         }
     }
 
-    private static final List<UpgradeOption> OPTIONS = new ArrayList<>();
-    private static final Set<String> RAFT_EXCLUDED_FACILITIES = Set.of(
-            "Inoculation Station",
-            "Trawling Net",
-            "Chum Station",
-            "Anchor",
-            "Fathom Device",
-            "Salvaging Station",
-            "Crystal Extractor"
+    private static int nextOrdinal;
+
+    // UpgradeStateService packs the owned material count of an option into 3 bits of its requirement signature
+    static final int MAX_MATERIALS_PER_OPTION = 7;
+
+    private static final String WIKI_URL = "https://oldschool.runescape.wiki/w/";
+
+    /**
+     * Wiki page for an upgrade, material or schematic name
+     */
+    static String wikiUrl(String name)
+    {
+        String wikiName = name;
+
+        if (wikiName.equals("Teleport focus") ||
+                wikiName.equals("Greater teleport focus") ||
+                wikiName.equals("Anchor") ||
+                wikiName.equals("Range") ||
+                wikiName.equals("Keg"))
+        {
+            wikiName += " (facility)";
+        }
+
+        if (!wikiName.equals("Rosewood & cotton sails schematic"))
+        {
+            wikiName = wikiName.replace("&", "and");
+        }
+
+        return WIKI_URL + URLEncoder.encode(wikiName.replace(" ", "_"), StandardCharsets.UTF_8);
+    }
+    // Bumped whenever a material item id is resolved, lets item id lookups know to rebuild
+    private static volatile int itemIdsVersion;
+    // Material table indexed by id, filled as the options below are declared
+    private static final List<Material> MATERIALS = new ArrayList<>();
+    private static final Map<String, Material> MATERIALS_BY_NAME = new HashMap<>();
+    // Item ids of the materials that predate Sailing, the rest are resolved by name at runtime
+    private static final Map<String, Integer> KNOWN_ITEM_IDS = Map.ofEntries(
+            Map.entry("Logs", ItemID.LOGS),
+            Map.entry("Oak logs", ItemID.OAK_LOGS),
+            Map.entry("Teak logs", ItemID.TEAK_LOGS),
+            Map.entry("Mahogany logs", ItemID.MAHOGANY_LOGS),
+            Map.entry("Plank", ItemID.WOODPLANK),
+            Map.entry("Oak plank", ItemID.PLANK_OAK),
+            Map.entry("Teak plank", ItemID.PLANK_TEAK),
+            Map.entry("Mahogany plank", ItemID.PLANK_MAHOGANY),
+            Map.entry("Rope", ItemID.ROPE),
+            Map.entry("Swamp tar", ItemID.SWAMP_TAR),
+            Map.entry("Bronze bar", ItemID.BRONZE_BAR),
+            Map.entry("Iron bar", ItemID.IRON_BAR),
+            Map.entry("Steel bar", ItemID.STEEL_BAR),
+            Map.entry("Mithril bar", ItemID.MITHRIL_BAR),
+            Map.entry("Adamantite bar", ItemID.ADAMANTITE_BAR),
+            Map.entry("Runite bar", ItemID.RUNITE_BAR),
+            Map.entry("Bronze nails", ItemID.NAILS_BRONZE),
+            Map.entry("Iron nails", ItemID.NAILS_IRON),
+            Map.entry("Steel nails", ItemID.NAILS),
+            Map.entry("Mithril nails", ItemID.NAILS_MITHRIL),
+            Map.entry("Adamantite nails", ItemID.NAILS_ADAMANT),
+            Map.entry("Rune nails", ItemID.NAILS_RUNE),
+            Map.entry("Air rune", ItemID.AIRRUNE),
+            Map.entry("Knife", ItemID.KNIFE),
+            Map.entry("Molten glass", ItemID.MOLTEN_GLASS),
+            Map.entry("Charcoal", ItemID.CHARCOAL),
+            Map.entry("Tinderbox", ItemID.TINDERBOX),
+            Map.entry("Fishing bait", ItemID.FISHING_BAIT)
     );
+    private static final List<UpgradeOption> OPTIONS = new ArrayList<>();
+    // Catalog index, built once after OPTIONS is populated
+    // Slots 0-2 are the raft, skiff and sloop, the last slot only holds options shared by every boat type
+    private static final int BOAT_TYPE_COUNT = 3;
+    private static final UpgradeOption[][][] BY_PART = new UpgradeOption[BOAT_TYPE_COUNT + 1][][];
+    private static final UpgradeOption[][] BY_SAILING_LEVEL = new UpgradeOption[BOAT_TYPE_COUNT + 1][];
 
     static
     {
     // Core boat parts
         // Wooden base/hull (tier 0)
-        OPTIONS.add(new UpgradeOption("Base", 0, 0, 1, 1, "Wooden base",
-                Arrays.asList(new Material("Logs",10), new Material("Rope",6), new Material("Swamp tar",10))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 0, 1, 1, "Wooden hull",
-                Arrays.asList(new Material("Wooden hull parts",10), new Material("Bronze nails",300), new Material("Swamp tar",20))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 0, 1, 1, "Wooden hull",
-                Arrays.asList(new Material("Large wooden hull parts",16), new Material("Bronze nails",600), new Material("Swamp tar",25))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 0, 1, 1, "Wooden base",
+                mat("Logs", 10), mat("Rope", 6), mat("Swamp tar", 10)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 0, 1, 1, "Wooden hull",
+                mat("Wooden hull parts", 10), mat("Bronze nails", 300), mat("Swamp tar", 20)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 0, 1, 1, "Wooden hull",
+                mat("Large wooden hull parts", 16), mat("Bronze nails", 600), mat("Swamp tar", 25)));
 
         // Bronze helm (tier 0)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 0, 1, 1, "Bronze helm",
-                Arrays.asList(new Material("Plank",2), new Material("Bronze bar",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 0, 1, 1, "Bronze helm",
-                Arrays.asList(new Material("Plank",3), new Material("Bronze bar",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 0, 1, 1, "Bronze helm",
-                Arrays.asList(new Material("Plank",4), new Material("Bronze bar",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 0, 1, 1, "Bronze helm",
+                mat("Plank", 2), mat("Bronze bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 0, 1, 1, "Bronze helm",
+                mat("Plank", 3), mat("Bronze bar", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 0, 1, 1, "Bronze helm",
+                mat("Plank", 4), mat("Bronze bar", 8)));
 
         // Wooden sails (tier 0)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 0, 1, 1, "Wooden mast & linen sails",
-                Arrays.asList(new Material("Logs",5), new Material("Bronze nails",20), new Material("Bolt of linen",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 0, 1, 1, "Wooden mast & linen sails",
-                Arrays.asList(new Material("Logs",10), new Material("Bronze nails",40), new Material("Bolt of linen",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 0, 1, 1, "Wooden mast & linen sails",
-                Arrays.asList(new Material("Logs",15), new Material("Bronze nails",60), new Material("Bolt of linen",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 0, 1, 1, "Wooden mast & linen sails",
+                mat("Logs", 5), mat("Bronze nails", 20), mat("Bolt of linen", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 0, 1, 1, "Wooden mast & linen sails",
+                mat("Logs", 10), mat("Bronze nails", 40), mat("Bolt of linen", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 0, 1, 1, "Wooden mast & linen sails",
+                mat("Logs", 15), mat("Bronze nails", 60), mat("Bolt of linen", 10)));
 
         // Bronze keel (tier 0)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 0, 1, 1, "Bronze keel",
-                Arrays.asList(new Material("Bronze keel parts",10))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 0, 1, 1, "Bronze keel",
-                Arrays.asList(new Material("Large bronze keel parts",16))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 0, 1, 1, "Bronze keel",
+                mat("Bronze keel parts", 10)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 0, 1, 1, "Bronze keel",
+                mat("Large bronze keel parts", 16)));
 
         // Iron helm (tier 1)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 1, 17, 14, "Iron helm",
-                Arrays.asList(new Material("Oak plank",2), new Material("Iron bar",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 1, 17, 14, "Iron helm",
-                Arrays.asList(new Material("Oak plank",3), new Material("Iron bar",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 1, 17, 14, "Iron helm",
-                Arrays.asList(new Material("Oak plank",4), new Material("Iron bar",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 1, 17, 14, "Iron helm",
+                mat("Oak plank", 2), mat("Iron bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 1, 17, 14, "Iron helm",
+                mat("Oak plank", 3), mat("Iron bar", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 1, 17, 14, "Iron helm",
+                mat("Oak plank", 4), mat("Iron bar", 8)));
 
         // Oak base/hull (tier 1)
-        OPTIONS.add(new UpgradeOption("Base", 0, 1, 20, 8, "Oak base",
-                Arrays.asList(new Material("Oak logs",10), new Material("Rope",6), new Material("Swamp tar",10))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 1, 20, 8, "Oak hull",
-                Arrays.asList(new Material("Oak hull parts",10), new Material("Iron nails",300), new Material("Swamp tar",20))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 1, 20, 8, "Oak hull",
-                Arrays.asList(new Material("Large oak hull parts",16), new Material("Iron nails",600), new Material("Swamp tar",25))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 1, 20, 8, "Oak base",
+                mat("Oak logs", 10), mat("Rope", 6), mat("Swamp tar", 10)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 1, 20, 8, "Oak hull",
+                mat("Oak hull parts", 10), mat("Iron nails", 300), mat("Swamp tar", 20)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 1, 20, 8, "Oak hull",
+                mat("Large oak hull parts", 16), mat("Iron nails", 600), mat("Swamp tar", 25)));
 
         // Iron keel (tier 1)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 1, 22, 17, "Iron keel",
-                Arrays.asList(new Material("Iron keel parts",10))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 1, 22, 17, "Iron keel",
-                Arrays.asList(new Material("Large iron keel parts",16))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 1, 22, 17, "Iron keel",
+                mat("Iron keel parts", 10)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 1, 22, 17, "Iron keel",
+                mat("Large iron keel parts", 16)));
 
         // Oak sails (tier 1)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 1, 24, 11, "Oak mast & linen sails",
-                Arrays.asList(new Material("Oak logs",5), new Material("Iron nails",20), new Material("Bolt of linen",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 1, 24, 11, "Oak mast & linen sails",
-                Arrays.asList(new Material("Oak logs",10), new Material("Iron nails",40), new Material("Bolt of linen",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 1, 24, 11, "Oak mast & linen sails",
-                Arrays.asList(new Material("Oak logs",15), new Material("Iron nails",60), new Material("Bolt of linen",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 1, 24, 11, "Oak mast & linen sails",
+                mat("Oak logs", 5), mat("Iron nails", 20), mat("Bolt of linen", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 1, 24, 11, "Oak mast & linen sails",
+                mat("Oak logs", 10), mat("Iron nails", 40), mat("Bolt of linen", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 1, 24, 11, "Oak mast & linen sails",
+                mat("Oak logs", 15), mat("Iron nails", 60), mat("Bolt of linen", 10)));
 
         // Teak base/hull (tier 2)
-        OPTIONS.add(new UpgradeOption("Base", 0, 2, 31, 23, "Teak base",
-                Arrays.asList(new Material("Teak logs",10), new Material("Rope",6), new Material("Swamp tar",10), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 2, 31, 23, "Teak hull",
-                Arrays.asList(new Material("Teak hull parts",10), new Material("Steel nails",300), new Material("Swamp tar",20), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 2, 31, 23, "Teak hull",
-                Arrays.asList(new Material("Large teak hull parts",16), new Material("Steel nails",600), new Material("Swamp tar",25), new Material("Lead bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 2, 31, 23, "Teak base",
+                mat("Teak logs", 10), mat("Rope", 6), mat("Swamp tar", 10), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 2, 31, 23, "Teak hull",
+                mat("Teak hull parts", 10), mat("Steel nails", 300), mat("Swamp tar", 20), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 2, 31, 23, "Teak hull",
+                mat("Large teak hull parts", 16), mat("Steel nails", 600), mat("Swamp tar", 25), mat("Lead bar", 5)));
 
         // Teak sails (tier 2)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 2, 36, 26, "Teak mast & canvas sails",
-                Arrays.asList(new Material("Teak logs",5), new Material("Steel nails",20), new Material("Bolt of canvas",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 2, 36, 26, "Teak mast & canvas sails",
-                Arrays.asList(new Material("Teak logs",10), new Material("Steel nails",40), new Material("Bolt of canvas",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 2, 36, 26, "Teak mast & canvas sails",
-                Arrays.asList(new Material("Teak logs",15), new Material("Steel nails",60), new Material("Bolt of canvas",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 2, 36, 26, "Teak mast & canvas sails",
+                mat("Teak logs", 5), mat("Steel nails", 20), mat("Bolt of canvas", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 2, 36, 26, "Teak mast & canvas sails",
+                mat("Teak logs", 10), mat("Steel nails", 40), mat("Bolt of canvas", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 2, 36, 26, "Teak mast & canvas sails",
+                mat("Teak logs", 15), mat("Steel nails", 60), mat("Bolt of canvas", 10)));
 
         // Steel helm (tier 2)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 2, 38, 30, "Steel helm",
-                Arrays.asList(new Material("Teak plank",2), new Material("Steel bar",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 2, 38, 30, "Steel helm",
-                Arrays.asList(new Material("Teak plank",3), new Material("Steel bar",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 2, 38, 30, "Steel helm",
-                Arrays.asList(new Material("Teak plank",4), new Material("Steel bar",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 2, 38, 30, "Steel helm",
+                mat("Teak plank", 2), mat("Steel bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 2, 38, 30, "Steel helm",
+                mat("Teak plank", 3), mat("Steel bar", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 2, 38, 30, "Steel helm",
+                mat("Teak plank", 4), mat("Steel bar", 8)));
 
         // Steel keel (tier 2)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 2, 39, 32, "Steel keel",
-                Arrays.asList(new Material("Steel keel parts",10), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 2, 39, 32, "Steel keel",
-                Arrays.asList(new Material("Large steel keel parts",16), new Material("Lead bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 2, 39, 32, "Steel keel",
+                mat("Steel keel parts", 10), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 2, 39, 32, "Steel keel",
+                mat("Large steel keel parts", 16), mat("Lead bar", 5)));
 
         // Mahogany base/hull (tier 3)
-        OPTIONS.add(new UpgradeOption("Base", 0, 3, 48, 41, "Mahogany base",
-                Arrays.asList(new Material("Mahogany logs",10), new Material("Rope",6), new Material("Swamp tar",10), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 3, 48, 41, "Mahogany hull",
-                Arrays.asList(new Material("Mahogany hull parts",10), new Material("Mithril nails",300), new Material("Swamp tar",20), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 3, 48, 41, "Mahogany hull",
-                Arrays.asList(new Material("Large mahogany hull parts",16), new Material("Mithril nails",600), new Material("Swamp tar",25), new Material("Lead bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 3, 48, 41, "Mahogany base",
+                mat("Mahogany logs", 10), mat("Rope", 6), mat("Swamp tar", 10), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 3, 48, 41, "Mahogany hull",
+                mat("Mahogany hull parts", 10), mat("Mithril nails", 300), mat("Swamp tar", 20), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 3, 48, 41, "Mahogany hull",
+                mat("Large mahogany hull parts", 16), mat("Mithril nails", 600), mat("Swamp tar", 25), mat("Lead bar", 5)));
 
         // Mahogany sails (tier 3)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 3, 52, 45, "Mahogany mast & canvas sails",
-                Arrays.asList(new Material("Mahogany logs",5), new Material("Mithril nails",20), new Material("Bolt of canvas",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 3, 52, 45, "Mahogany mast & canvas sails",
-                Arrays.asList(new Material("Mahogany logs",10), new Material("Mithril nails",40), new Material("Bolt of canvas",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 3, 52, 45, "Mahogany mast & canvas sails",
-                Arrays.asList(new Material("Mahogany logs",15), new Material("Mithril nails",60), new Material("Bolt of canvas",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 3, 52, 45, "Mahogany mast & canvas sails",
+                mat("Mahogany logs", 5), mat("Mithril nails", 20), mat("Bolt of canvas", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 3, 52, 45, "Mahogany mast & canvas sails",
+                mat("Mahogany logs", 10), mat("Mithril nails", 40), mat("Bolt of canvas", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 3, 52, 45, "Mahogany mast & canvas sails",
+                mat("Mahogany logs", 15), mat("Mithril nails", 60), mat("Bolt of canvas", 10)));
 
         // Mithril keel (tier 3)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 3, 54, 50, "Mithril keel",
-                Arrays.asList(new Material("Mithril keel parts",10), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 3, 54, 50, "Mithril keel",
-                Arrays.asList(new Material("Large mithril keel parts",16), new Material("Lead bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 3, 54, 50, "Mithril keel",
+                mat("Mithril keel parts", 10), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 3, 54, 50, "Mithril keel",
+                mat("Large mithril keel parts", 16), mat("Lead bar", 5)));
 
         // Mithril helm (tier 3)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 3, 55, 47, "Mithril helm",
-                Arrays.asList(new Material("Mahogany plank",2), new Material("Mithril bar",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 3, 55, 47, "Mithril helm",
-                Arrays.asList(new Material("Mahogany plank",3), new Material("Mithril bar",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 3, 55, 47, "Mithril helm",
-                Arrays.asList(new Material("Mahogany plank",4), new Material("Mithril bar",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 3, 55, 47, "Mithril helm",
+                mat("Mahogany plank", 2), mat("Mithril bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 3, 55, 47, "Mithril helm",
+                mat("Mahogany plank", 3), mat("Mithril bar", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 3, 55, 47, "Mithril helm",
+                mat("Mahogany plank", 4), mat("Mithril bar", 8)));
 
         // Adamant keel (tier 4)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 4, 66, 62, "Adamant keel",
-                Arrays.asList(new Material("Adamant keel parts",10), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 4, 66, 62, "Adamant keel",
-                Arrays.asList(new Material("Large adamant keel parts",16), new Material("Lead bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 4, 66, 62, "Adamant keel",
+                mat("Adamant keel parts", 10), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 4, 66, 62, "Adamant keel",
+                mat("Large adamant keel parts", 16), mat("Lead bar", 5)));
 
         // Camphor base/hull (tier 4)
-        OPTIONS.add(new UpgradeOption("Base", 0, 4, 67, 59, "Camphor base",
-                Arrays.asList(new Material("Camphor logs",10), new Material("Rope",6), new Material("Swamp tar",10), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 4, 67, 59, "Camphor hull",
-                Arrays.asList(new Material("Camphor hull parts",10), new Material("Adamantite nails",300), new Material("Swamp tar",20), new Material("Lead bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 4, 67, 59, "Camphor hull",
-                Arrays.asList(new Material("Large camphor hull parts",16), new Material("Adamantite nails",600), new Material("Swamp tar",25), new Material("Lead bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 4, 67, 59, "Camphor base",
+                mat("Camphor logs", 10), mat("Rope", 6), mat("Swamp tar", 10), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 4, 67, 59, "Camphor hull",
+                mat("Camphor hull parts", 10), mat("Adamantite nails", 300), mat("Swamp tar", 20), mat("Lead bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 4, 67, 59, "Camphor hull",
+                mat("Large camphor hull parts", 16), mat("Adamantite nails", 600), mat("Swamp tar", 25), mat("Lead bar", 5)));
 
         // Camphor sails (tier 4)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 4, 68, 60, "Camphor mast & canvas sails",
-                Arrays.asList(new Material("Camphor logs",5), new Material("Adamantite nails",20), new Material("Bolt of canvas",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 4, 68, 60, "Camphor mast & canvas sails",
-                Arrays.asList(new Material("Camphor logs",10), new Material("Adamantite nails",40), new Material("Bolt of canvas",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 4, 68, 60, "Camphor mast & canvas sails",
-                Arrays.asList(new Material("Camphor logs",15), new Material("Adamantite nails",60), new Material("Bolt of canvas",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 4, 68, 60, "Camphor mast & canvas sails",
+                mat("Camphor logs", 5), mat("Adamantite nails", 20), mat("Bolt of canvas", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 4, 68, 60, "Camphor mast & canvas sails",
+                mat("Camphor logs", 10), mat("Adamantite nails", 40), mat("Bolt of canvas", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 4, 68, 60, "Camphor mast & canvas sails",
+                mat("Camphor logs", 15), mat("Adamantite nails", 60), mat("Bolt of canvas", 10)));
 
         // Adamant helm (tier 4)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 4, 72, 59, "Adamant helm",
-                Arrays.asList(new Material("Camphor plank",2), new Material("Adamantite bar",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 4, 72, 59, "Adamant helm",
-                Arrays.asList(new Material("Camphor plank",3), new Material("Adamantite bar",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 4, 72, 59, "Adamant helm",
-                Arrays.asList(new Material("Camphor plank",4), new Material("Adamantite bar",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 4, 72, 59, "Adamant helm",
+                mat("Camphor plank", 2), mat("Adamantite bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 4, 72, 59, "Adamant helm",
+                mat("Camphor plank", 3), mat("Adamantite bar", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 4, 72, 59, "Adamant helm",
+                mat("Camphor plank", 4), mat("Adamantite bar", 8)));
 
         // Ironwood base/hull (tier 5)
-        OPTIONS.add(new UpgradeOption("Base", 0, 5, 81,75,  "Ironwood base",
-                Arrays.asList(new Material("Ironwood logs",10), new Material("Rope",6), new Material("Swamp tar",10), new Material("Cupronickel bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 5, 81, 75, "Ironwood hull",
-                Arrays.asList(new Material("Ironwood hull parts",10), new Material("Rune nails",300), new Material("Swamp tar",20), new Material("Cupronickel bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 5, 81, 75, "Ironwood hull",
-                Arrays.asList(new Material("Large ironwood hull parts",16), new Material("Rune nails",600), new Material("Swamp tar",25), new Material("Cupronickel bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 5, 81,75,  "Ironwood base",
+                mat("Ironwood logs", 10), mat("Rope", 6), mat("Swamp tar", 10), mat("Cupronickel bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 5, 81, 75, "Ironwood hull",
+                mat("Ironwood hull parts", 10), mat("Rune nails", 300), mat("Swamp tar", 20), mat("Cupronickel bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 5, 81, 75, "Ironwood hull",
+                mat("Large ironwood hull parts", 16), mat("Rune nails", 600), mat("Swamp tar", 25), mat("Cupronickel bar", 5)));
 
         // Ironwood sails (tier 5)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 5, 83, 77, "Ironwood mast & cotton sails",
-                Arrays.asList(new Material("Ironwood logs",5), new Material("Rune nails",20), new Material("Bolt of cotton",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 5, 83, 77, "Ironwood mast & cotton sails",
-                Arrays.asList(new Material("Ironwood logs",10), new Material("Rune nails",40), new Material("Bolt of cotton",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 5, 83, 77, "Ironwood mast & cotton sails",
-                Arrays.asList(new Material("Ironwood logs",15), new Material("Rune nails",60), new Material("Bolt of cotton",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 5, 83, 77, "Ironwood mast & cotton sails",
+                mat("Ironwood logs", 5), mat("Rune nails", 20), mat("Bolt of cotton", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 5, 83, 77, "Ironwood mast & cotton sails",
+                mat("Ironwood logs", 10), mat("Rune nails", 40), mat("Bolt of cotton", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 5, 83, 77, "Ironwood mast & cotton sails",
+                mat("Ironwood logs", 15), mat("Rune nails", 60), mat("Bolt of cotton", 10)));
 
         // Rune keel (tier 5)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 5, 85, 78, "Rune keel",
-                Arrays.asList(new Material("Rune keel parts",10), new Material("Cupronickel bar",5))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 5, 85, 78, "Rune keel",
-                Arrays.asList(new Material("Large rune keel parts",16), new Material("Cupronickel bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 5, 85, 78, "Rune keel",
+                mat("Rune keel parts", 10), mat("Cupronickel bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 5, 85, 78, "Rune keel",
+                mat("Large rune keel parts", 16), mat("Cupronickel bar", 5)));
 
         // Rune helm (tier 5)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 5, 87, 81, "Rune helm",
-                Arrays.asList(new Material("Ironwood plank",2), new Material("Runite bar",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 5, 87, 81, "Rune helm",
-                Arrays.asList(new Material("Ironwood plank",3), new Material("Runite bar",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 5, 87, 81, "Rune helm",
-                Arrays.asList(new Material("Ironwood plank",4), new Material("Runite bar",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 5, 87, 81, "Rune helm",
+                mat("Ironwood plank", 2), mat("Runite bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 5, 87, 81, "Rune helm",
+                mat("Ironwood plank", 3), mat("Runite bar", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 5, 87, 81, "Rune helm",
+                mat("Ironwood plank", 4), mat("Runite bar", 8)));
 
         // Rosewood base/hull (tier 6)
-        OPTIONS.add(new UpgradeOption("Base", 0, 6, 93, 84, "Rosewood base",
-                Arrays.asList(new Material("Rosewood logs",10), new Material("Rope",6), new Material("Swamp tar",10), new Material("Cupronickel bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 1, 6, 93, 84, "Rosewood hull",
-                Arrays.asList(new Material("Rosewood hull parts",10), new Material("Dragon nails",300), new Material("Swamp tar",20), new Material("Cupronickel bar",5))));
-        OPTIONS.add(new UpgradeOption("Hull", 2, 6, 93, 84, "Rosewood hull",
-                Arrays.asList(new Material("Large rosewood hull parts",16), new Material("Dragon nails",600), new Material("Swamp tar",25), new Material("Cupronickel bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.BASE, 0, 6, 93, 84, "Rosewood base",
+                mat("Rosewood logs", 10), mat("Rope", 6), mat("Swamp tar", 10), mat("Cupronickel bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 1, 6, 93, 84, "Rosewood hull",
+                mat("Rosewood hull parts", 10), mat("Dragon nails", 300), mat("Swamp tar", 20), mat("Cupronickel bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.HULL, 2, 6, 93, 84, "Rosewood hull",
+                mat("Large rosewood hull parts", 16), mat("Dragon nails", 600), mat("Swamp tar", 25), mat("Cupronickel bar", 5)));
 
         // Rosewood sails (tier 6)
-        OPTIONS.add(new UpgradeOption("Sails", 0, 6, 94, 85, "Rosewood mast & cotton sails",
-                Arrays.asList(new Material("Rosewood logs",5), new Material("Dragon nails",20), new Material("Bolt of cotton",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 1, 6, 94, 85, "Rosewood mast & cotton sails",
-                Arrays.asList(new Material("Rosewood logs",10), new Material("Dragon nails",40), new Material("Bolt of cotton",5))));
-        OPTIONS.add(new UpgradeOption("Sails", 2, 6, 94, 85, "Rosewood mast & cotton sails",
-                Arrays.asList(new Material("Rosewood logs",15), new Material("Dragon nails",60), new Material("Bolt of cotton",10))));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 0, 6, 94, 85, "Rosewood mast & cotton sails",
+                mat("Rosewood logs", 5), mat("Dragon nails", 20), mat("Bolt of cotton", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 1, 6, 94, 85, "Rosewood mast & cotton sails",
+                mat("Rosewood logs", 10), mat("Dragon nails", 40), mat("Bolt of cotton", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.SAILS, 2, 6, 94, 85, "Rosewood mast & cotton sails",
+                mat("Rosewood logs", 15), mat("Dragon nails", 60), mat("Bolt of cotton", 10)));
 
         // Dragon helm (tier 6)
-        OPTIONS.add(new UpgradeOption("Helm", 0, 6, 96, 86, "Dragon helm",
-                Arrays.asList(new Material("Rosewood plank",2), new Material("Dragon metal sheet",4))));
-        OPTIONS.add(new UpgradeOption("Helm", 1, 6, 96, 86, "Dragon helm",
-                Arrays.asList(new Material("Rosewood plank",3), new Material("Dragon metal sheet",6))));
-        OPTIONS.add(new UpgradeOption("Helm", 2, 6, 96, 86, "Dragon helm",
-                Arrays.asList(new Material("Rosewood plank",4), new Material("Dragon metal sheet",8))));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 0, 6, 96, 86, "Dragon helm",
+                mat("Rosewood plank", 2), mat("Dragon metal sheet", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 1, 6, 96, 86, "Dragon helm",
+                mat("Rosewood plank", 3), mat("Dragon metal sheet", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.HELM, 2, 6, 96, 86, "Dragon helm",
+                mat("Rosewood plank", 4), mat("Dragon metal sheet", 8)));
 
         // Dragon keel (tier 6)
-        OPTIONS.add(new UpgradeOption("Keel", 1, 6, 97, 87, "Dragon keel",
-                Arrays.asList(new Material("Dragon keel parts",10), new Material("Cupronickel bar",5))));
-        OPTIONS.add(new UpgradeOption("Keel", 2, 6, 97, 87, "Dragon keel",
-                Arrays.asList(new Material("Large dragon keel parts",16), new Material("Cupronickel bar",5))));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 1, 6, 97, 87, "Dragon keel",
+                mat("Dragon keel parts", 10), mat("Cupronickel bar", 5)));
+        OPTIONS.add(new UpgradeOption(PartType.KEEL, 2, 6, 97, 87, "Dragon keel",
+                mat("Large dragon keel parts", 16), mat("Cupronickel bar", 5)));
 
     // Facilities
 
         // Cargo hold
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 0, 1, 1, "Wooden cargo hold",
-                Arrays.asList(new Material("Plank",8), new Material("Bronze nails",32))));
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 1, 18, 11, "Oak cargo hold",
-                Arrays.asList(new Material("Oak plank",8), new Material("Iron nails",32))));
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 2, 29, 21, "Teak cargo hold",
-                Arrays.asList(new Material("Teak plank",8), new Material("Steel nails",32), new Material("Lead bar",3))));
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 3, 46, 41, "Mahogany cargo hold",
-                Arrays.asList(new Material("Mahogany plank",8), new Material("Mithril nails",32), new Material("Lead bar",3))));
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 4, 60, 53, "Camphor cargo hold",
-                Arrays.asList(new Material("Camphor plank",8), new Material("Adamantite nails",32), new Material("Lead bar",3))));
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 5, 80, 77, "Ironwood cargo hold",
-                Arrays.asList(new Material("Ironwood plank",8), new Material("Rune nails",32), new Material("Cupronickel bar",3))));
-        OPTIONS.add(new UpgradeOption("Cargo Hold", -1, 6, 89, 84, "Rosewood cargo hold",
-                Arrays.asList(new Material("Rosewood plank",8), new Material("Dragon nails",32), new Material("Cupronickel bar",3))));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 0, 1, 1, "Wooden cargo hold",
+                mat("Plank", 8), mat("Bronze nails", 32)));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 1, 18, 11, "Oak cargo hold",
+                mat("Oak plank", 8), mat("Iron nails", 32)));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 2, 29, 21, "Teak cargo hold",
+                mat("Teak plank", 8), mat("Steel nails", 32), mat("Lead bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 3, 46, 41, "Mahogany cargo hold",
+                mat("Mahogany plank", 8), mat("Mithril nails", 32), mat("Lead bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 4, 60, 53, "Camphor cargo hold",
+                mat("Camphor plank", 8), mat("Adamantite nails", 32), mat("Lead bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 5, 80, 77, "Ironwood cargo hold",
+                mat("Ironwood plank", 8), mat("Rune nails", 32), mat("Cupronickel bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.CARGO_HOLD, -1, 6, 89, 84, "Rosewood cargo hold",
+                mat("Rosewood plank", 8), mat("Dragon nails", 32), mat("Cupronickel bar", 3)));
 
         // Salvaging hook
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 0, 15, 1, "Bronze salvaging hook",
-                Arrays.asList(new Material("Plank",4), new Material("Bronze nails",16), new Material("Bronze bar",6), new Material("Rope",1))));
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 1, 21, 9, "Iron salvaging hook",
-                Arrays.asList(new Material("Oak plank",4), new Material("Iron nails",16), new Material("Iron bar",6), new Material("Rope",1))));
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 2, 27, 18, "Steel salvaging hook",
-                Arrays.asList(new Material("Teak plank",4), new Material("Steel nails",16), new Material("Steel bar",6), new Material("Rope",1), new Material("Lead bar",3))));
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 3, 44, 30, "Mithril salvaging hook",
-                Arrays.asList(new Material("Mahogany plank",4), new Material("Mithril nails",16), new Material("Mithril bar",6), new Material("Rope",1), new Material("Lead bar",3))));
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 4, 59, 52, "Adamant salvaging hook",
-                Arrays.asList(new Material("Camphor plank",4), new Material("Adamantite nails",16), new Material("Adamantite bar",6), new Material("Rope",1), new Material("Lead bar",3))));
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 5, 74, 66, "Rune salvaging hook",
-                Arrays.asList(new Material("Ironwood plank",4), new Material("Rune nails",16), new Material("Runite bar",6), new Material("Rope",1), new Material("Lead bar",4), new Material("Cupronickel bar",4))));
-        OPTIONS.add(new UpgradeOption("Salvaging Hook", -1, 6, 86, 78, "Dragon salvaging hook",
-                Arrays.asList(new Material("Rosewood plank",4), new Material("Dragon nails",16), new Material("Dragon metal sheet",6), new Material("Rope",1), new Material("Cupronickel bar",4), new Material("Broken dragon hook",1))));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 0, 15, 1, "Bronze salvaging hook",
+                mat("Plank", 4), mat("Bronze nails", 16), mat("Bronze bar", 6), mat("Rope", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 1, 21, 9, "Iron salvaging hook",
+                mat("Oak plank", 4), mat("Iron nails", 16), mat("Iron bar", 6), mat("Rope", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 2, 27, 18, "Steel salvaging hook",
+                mat("Teak plank", 4), mat("Steel nails", 16), mat("Steel bar", 6), mat("Rope", 1), mat("Lead bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 3, 44, 30, "Mithril salvaging hook",
+                mat("Mahogany plank", 4), mat("Mithril nails", 16), mat("Mithril bar", 6), mat("Rope", 1), mat("Lead bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 4, 59, 52, "Adamant salvaging hook",
+                mat("Camphor plank", 4), mat("Adamantite nails", 16), mat("Adamantite bar", 6), mat("Rope", 1), mat("Lead bar", 3)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 5, 74, 66, "Rune salvaging hook",
+                mat("Ironwood plank", 4), mat("Rune nails", 16), mat("Runite bar", 6), mat("Rope", 1), mat("Lead bar", 4), mat("Cupronickel bar", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_HOOK, -1, 6, 86, 78, "Dragon salvaging hook",
+                mat("Rosewood plank", 4), mat("Dragon nails", 16), mat("Dragon metal sheet", 6), mat("Rope", 1), mat("Cupronickel bar", 4), mat("Broken dragon hook", 1)));
 
         // Cannon
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 0, 28, 21, "Bronze cannon",
-                Arrays.asList(new Material("Plank",4), new Material("Bronze nails",16), new Material("Bronze bar",8))));
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 1, 35, 28, "Iron cannon",
-                Arrays.asList(new Material("Oak plank",4), new Material("Iron nails",16), new Material("Iron bar",8))));
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 2, 47, 39, "Steel cannon",
-                Arrays.asList(new Material("Teak plank",4), new Material("Steel nails",16), new Material("Steel bar",8))));
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 3, 57, 50, "Mithril cannon",
-                Arrays.asList(new Material("Mahogany plank",4), new Material("Mithril nails",16), new Material("Mithril bar",8))));
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 4, 69, 61, "Adamant cannon",
-                Arrays.asList(new Material("Camphor plank",4), new Material("Adamantite nails",16), new Material("Adamantite bar",8))));
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 5, 80, 76, "Rune cannon",
-                Arrays.asList(new Material("Ironwood plank",4), new Material("Rune nails",16), new Material("Runite bar",8))));
-        OPTIONS.add(new UpgradeOption("Cannon", -1, 6, 92, 84, "Dragon cannon",
-                Arrays.asList(new Material("Rosewood plank",4), new Material("Dragon nails",16), new Material("Dragon metal sheet",8), new Material("Dragon cannon barrel",1))));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 0, 28, 21, "Bronze cannon",
+                mat("Plank", 4), mat("Bronze nails", 16), mat("Bronze bar", 8)));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 1, 35, 28, "Iron cannon",
+                mat("Oak plank", 4), mat("Iron nails", 16), mat("Iron bar", 8)));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 2, 47, 39, "Steel cannon",
+                mat("Teak plank", 4), mat("Steel nails", 16), mat("Steel bar", 8)));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 3, 57, 50, "Mithril cannon",
+                mat("Mahogany plank", 4), mat("Mithril nails", 16), mat("Mithril bar", 8)));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 4, 69, 61, "Adamant cannon",
+                mat("Camphor plank", 4), mat("Adamantite nails", 16), mat("Adamantite bar", 8)));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 5, 80, 76, "Rune cannon",
+                mat("Ironwood plank", 4), mat("Rune nails", 16), mat("Runite bar", 8)));
+        OPTIONS.add(new UpgradeOption(PartType.CANNON, -1, 6, 92, 84, "Dragon cannon",
+                mat("Rosewood plank", 4), mat("Dragon nails", 16), mat("Dragon metal sheet", 8), mat("Dragon cannon barrel", 1)));
 
         // Teleport focus
-        OPTIONS.add(new UpgradeOption("Teleport Focus", -1, 0, 55, 49, "Teleport focus",
-                Arrays.asList(new Material("Mahogany plank",8), new Material("Mithril nails",32), new Material("Lead bar",4), new Material("Magic stone",1))));
-        OPTIONS.add(new UpgradeOption("Teleport Focus", -1, 1, 75, 69, "Greater teleport focus",
-                Arrays.asList(new Material("Ironwood plank",8), new Material("Rune nails",32), new Material("Cupronickel bar",4), new Material("Magic stone",2), new Material("Bottled storm",1))));
+        OPTIONS.add(new UpgradeOption(PartType.TELEPORT_FOCUS, -1, 0, 55, 49, "Teleport focus",
+                mat("Mahogany plank", 8), mat("Mithril nails", 32), mat("Lead bar", 4), mat("Magic stone", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.TELEPORT_FOCUS, -1, 1, 75, 69, "Greater teleport focus",
+                mat("Ironwood plank", 8), mat("Rune nails", 32), mat("Cupronickel bar", 4), mat("Magic stone", 2), mat("Bottled storm", 1)));
 
         // Wind/Gale catcher
-        OPTIONS.add(new UpgradeOption("Wind Device", -1, 0, 53, 47, "Wind catcher",
-                Arrays.asList(new Material("Teak plank",4), new Material("Steel nails",16), new Material("Steel bar",8), new Material("Lead bar",4), new Material("Air rune",10000), new Material("Captured wind mote",1))));
-        OPTIONS.add(new UpgradeOption("Wind Device", -1, 1, 79, 70, "Gale catcher",
-                Arrays.asList(new Material("Camphor plank",4), new Material("Adamantite nails",16), new Material("Adamantite bar",8), new Material("Cupronickel bar",4), new Material("Air rune",25000), new Material("Captured wind mote",1), new Material("Swift albatross feather",5))));
+        OPTIONS.add(new UpgradeOption(PartType.WIND_DEVICE, -1, 0, 53, 47, "Wind catcher",
+                mat("Teak plank", 4), mat("Steel nails", 16), mat("Steel bar", 8), mat("Lead bar", 4), mat("Air rune", 10000), mat("Captured wind mote", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.WIND_DEVICE, -1, 1, 79, 70, "Gale catcher",
+                mat("Camphor plank", 4), mat("Adamantite nails", 16), mat("Adamantite bar", 8), mat("Cupronickel bar", 4), mat("Air rune", 25000), mat("Captured wind mote", 1), mat("Swift albatross feather", 5)));
 
         // Trawling net
-        OPTIONS.add(new UpgradeOption("Trawling Net", -1, 0, 56, 45, "Rope trawling net",
-                Arrays.asList(new Material("Rope",7), new Material("Teak plank",4), new Material("Steel bar",4), new Material("Lead bar",2))));
+        OPTIONS.add(new UpgradeOption(PartType.TRAWLING_NET, -1, 0, 56, 45, "Rope trawling net",
+                mat("Rope", 7), mat("Teak plank", 4), mat("Steel bar", 4), mat("Lead bar", 2)));
         // Jagex still has different construction level requirements for Linen trawling net on sloops compared to skiffs
-        OPTIONS.add(new UpgradeOption("Trawling Net", 1, 1, 65, 53, "Linen trawling net",
-                Arrays.asList(new Material("Linen yarn",6), new Material("Mahogany plank",4), new Material("Rope",1), new Material("Mithril bar",4), new Material("Lead bar",2))));
-        OPTIONS.add(new UpgradeOption("Trawling Net", 2, 1, 65, 61, "Linen trawling net",
-                Arrays.asList(new Material("Linen yarn",6), new Material("Mahogany plank",4), new Material("Rope",1), new Material("Mithril bar",4), new Material("Lead bar",2))));
-        OPTIONS.add(new UpgradeOption("Trawling Net", -1, 2, 76, 65, "Hemp trawling net",
-                Arrays.asList(new Material("Hemp yarn",6), new Material("Camphor plank",4), new Material("Rope",1), new Material("Adamantite bar",4), new Material("Cupronickel bar",2), new Material("Ray barbs",4))));
-        OPTIONS.add(new UpgradeOption("Trawling Net", -1, 3, 84, 73, "Cotton trawling net",
-                Arrays.asList(new Material("Cotton yarn",6), new Material("Ironwood plank",4), new Material("Rope",1), new Material("Runite bar",4), new Material("Cupronickel bar",2), new Material("Ray barbs",8))));
+        OPTIONS.add(new UpgradeOption(PartType.TRAWLING_NET, 1, 1, 65, 53, "Linen trawling net",
+                mat("Linen yarn", 6), mat("Mahogany plank", 4), mat("Rope", 1), mat("Mithril bar", 4), mat("Lead bar", 2)));
+        OPTIONS.add(new UpgradeOption(PartType.TRAWLING_NET, 2, 1, 65, 61, "Linen trawling net",
+                mat("Linen yarn", 6), mat("Mahogany plank", 4), mat("Rope", 1), mat("Mithril bar", 4), mat("Lead bar", 2)));
+        OPTIONS.add(new UpgradeOption(PartType.TRAWLING_NET, -1, 2, 76, 65, "Hemp trawling net",
+                mat("Hemp yarn", 6), mat("Camphor plank", 4), mat("Rope", 1), mat("Adamantite bar", 4), mat("Cupronickel bar", 2), mat("Ray barbs", 4)));
+        OPTIONS.add(new UpgradeOption(PartType.TRAWLING_NET, -1, 3, 84, 73, "Cotton trawling net",
+                mat("Cotton yarn", 6), mat("Ironwood plank", 4), mat("Rope", 1), mat("Runite bar", 4), mat("Cupronickel bar", 2), mat("Ray barbs", 8)));
 
         // Chum station/spreader
-        OPTIONS.add(new UpgradeOption("Chum Station", -1, 0, 56, 45, "Chum station",
-                Arrays.asList(new Material("Mahogany plank",10), new Material("Mithril nails",40), new Material("Steel bar",2), new Material("Fishing bait",1000), new Material("Knife",1))));
-        OPTIONS.add(new UpgradeOption("Chum Station", -1, 1, 68, 61, "Advanced chum station",
-                Arrays.asList(new Material("Camphor plank",10), new Material("Adamantite nails",40), new Material("Steel bar",2), new Material("Fishing bait",1000), new Material("Knife",1))));
-        OPTIONS.add(new UpgradeOption("Chum Station", -1, 2, 82, 74, "Chum spreader",
-                Arrays.asList(new Material("Ironwood plank",10), new Material("Rune nails",40), new Material("Cupronickel bar",5), new Material("Fishing bait",10000), new Material("Narwhal horn knife",1))));
+        OPTIONS.add(new UpgradeOption(PartType.CHUM_STATION, -1, 0, 56, 45, "Chum station",
+                mat("Mahogany plank", 10), mat("Mithril nails", 40), mat("Steel bar", 2), mat("Fishing bait", 1000), mat("Knife", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.CHUM_STATION, -1, 1, 68, 61, "Advanced chum station",
+                mat("Camphor plank", 10), mat("Adamantite nails", 40), mat("Steel bar", 2), mat("Fishing bait", 1000), mat("Knife", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.CHUM_STATION, -1, 2, 82, 74, "Chum spreader",
+                mat("Ironwood plank", 10), mat("Rune nails", 40), mat("Cupronickel bar", 5), mat("Fishing bait", 10000), mat("Narwhal horn knife", 1)));
 
         // Fathom stone/pearl
-        OPTIONS.add(new UpgradeOption("Fathom Device", -1, 0, 70, 62, "Fathom stone",
-                Arrays.asList(new Material("Camphor plank",10), new Material("Adamantite nails",40), new Material("Molten glass",4), new Material("Cupronickel bar",2))));
-        OPTIONS.add(new UpgradeOption("Fathom Device", -1, 1, 91, 83, "Fathom pearl",
-                Arrays.asList(new Material("Rosewood plank",10), new Material("Dragon nails",40), new Material("Dragon metal sheet",2), new Material("Echo pearl",1))));
+        OPTIONS.add(new UpgradeOption(PartType.FATHOM_DEVICE, -1, 0, 70, 62, "Fathom stone",
+                mat("Camphor plank", 10), mat("Adamantite nails", 40), mat("Molten glass", 4), mat("Cupronickel bar", 2)));
+        OPTIONS.add(new UpgradeOption(PartType.FATHOM_DEVICE, -1, 1, 91, 83, "Fathom pearl",
+                mat("Rosewood plank", 10), mat("Dragon nails", 40), mat("Dragon metal sheet", 2), mat("Echo pearl", 1)));
 
         // Misc
-        OPTIONS.add(new UpgradeOption("Range", -1, 0, 16, 6, "Range",
-                Arrays.asList(new Material("Steel bar",4), new Material("Charcoal",2), new Material("Tinderbox",1))));
-        OPTIONS.add(new UpgradeOption("Keg", -1, 0, 33, 25, "Keg",
-                Arrays.asList(new Material("Oak plank",5), new Material("Iron nails",20), new Material("Barrel stand",1))));
-        OPTIONS.add(new UpgradeOption("Anchor", -1, 0, 37, 29, "Anchor",
-                Arrays.asList(new Material("Steel bar",8), new Material("Lead bar",6), new Material("Rope",1))));
-        OPTIONS.add(new UpgradeOption("Inoculation Station", -1, 0, 40, 37, "Inoculation station",
-                Arrays.asList(new Material("Teak plank",8), new Material("Steel nails",32), new Material("Relicym's balm(4)",6))));
-        OPTIONS.add(new UpgradeOption("Salvaging Station", -1, 0, 42, 34, "Salvaging station",
-                Arrays.asList(new Material("Teak plank",4), new Material("Steel nails",16))));
-        OPTIONS.add(new UpgradeOption("Crystal Extractor", -1, 0, 73, 67, "Crystal extractor",
-                Arrays.asList(new Material("Ironwood plank",6), new Material("Cupronickel bar",5), new Material("Magic stone",2), new Material("Heart of ithell",1))));
-        OPTIONS.add(new UpgradeOption("Eternal Brazier", -1, 0, 78, 72, "Eternal brazier",
-                Arrays.asList(new Material("Ironwood plank",4), new Material("Rune nails",16), new Material("Runite bar",6), new Material("Cupronickel bar",6), new Material("Te salt",250), new Material("Efh salt",250), new Material("Urt salt",250))));
+        OPTIONS.add(new UpgradeOption(PartType.RANGE, -1, 0, 16, 6, "Range",
+                mat("Steel bar", 4), mat("Charcoal", 2), mat("Tinderbox", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.KEG, -1, 0, 33, 25, "Keg",
+                mat("Oak plank", 5), mat("Iron nails", 20), mat("Barrel stand", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.ANCHOR, -1, 0, 37, 29, "Anchor",
+                mat("Steel bar", 8), mat("Lead bar", 6), mat("Rope", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.INOCULATION_STATION, -1, 0, 40, 37, "Inoculation station",
+                mat("Teak plank", 8), mat("Steel nails", 32), mat("Relicym's balm(4)", 6)));
+        OPTIONS.add(new UpgradeOption(PartType.SALVAGING_STATION, -1, 0, 42, 34, "Salvaging station",
+                mat("Teak plank", 4), mat("Steel nails", 16)));
+        OPTIONS.add(new UpgradeOption(PartType.CRYSTAL_EXTRACTOR, -1, 0, 73, 67, "Crystal extractor",
+                mat("Ironwood plank", 6), mat("Cupronickel bar", 5), mat("Magic stone", 2), mat("Heart of ithell", 1)));
+        OPTIONS.add(new UpgradeOption(PartType.ETERNAL_BRAZIER, -1, 0, 78, 72, "Eternal brazier",
+                mat("Ironwood plank", 4), mat("Rune nails", 16), mat("Runite bar", 6), mat("Cupronickel bar", 6), mat("Te salt", 250), mat("Efh salt", 250), mat("Urt salt", 250)));
     }
 
-    public static List<UpgradeOption> getAvailableOptions(
-            int boatType,
-            Map<String, Integer> currentTiers,
-            int playerSailingLevel,
-            int playerConstructionLevel,
-            BoatUpgradesConfig config
-    )
+    static
     {
-        List<UpgradeOption> out = new ArrayList<>();
-
-        boolean isRaft = boatType == 0;
-        boolean filterConstruction = config.filterConstructionRequirement();
-
         for (UpgradeOption o : OPTIONS)
         {
-            if (o.boatType != -1 && o.boatType != boatType)
+            if (o.materialIds.length > MAX_MATERIALS_PER_OPTION)
             {
-                continue;
+                throw new IllegalStateException(o.displayName + " needs " + o.materialIds.length
+                        + " materials, at most " + MAX_MATERIALS_PER_OPTION + " are supported");
             }
+        }
 
-            if (isRaft && RAFT_EXCLUDED_FACILITIES.contains(o.partName))
+        for (int slot = 0; slot <= BOAT_TYPE_COUNT; slot++)
+        {
+            final boolean generic = slot == BOAT_TYPE_COUNT;
+            final boolean isRaft = slot == 0;
+
+            List<UpgradeOption> matching = new ArrayList<>();
+            for (UpgradeOption o : OPTIONS)
             {
-                continue;
+                if (o.boatType != -1 && (generic || o.boatType != slot))
+                {
+                    continue;
+                }
+
+                if (isRaft && o.part.isRaftExcluded())
+                {
+                    continue;
+                }
+
+                matching.add(o);
             }
 
-            Integer cur = currentTiers.get(o.partName);
-            int curTier = cur == null ? -1 : cur;
+            // Stable sort keeps declaration order between options sharing a sailing level
+            List<UpgradeOption> byLevel = new ArrayList<>(matching);
+            byLevel.sort(Comparator.comparingInt(o -> o.requiredSailingLevel));
+            BY_SAILING_LEVEL[slot] = byLevel.toArray(new UpgradeOption[0]);
 
-            if (o.targetTier <= curTier)
+            UpgradeOption[][] byPart = new UpgradeOption[PartType.COUNT][];
+            for (PartType part : PartType.VALUES)
             {
-                continue;
+                List<UpgradeOption> partOptions = new ArrayList<>();
+                for (UpgradeOption o : matching)
+                {
+                    if (o.part == part)
+                    {
+                        partOptions.add(o);
+                    }
+                }
+
+                partOptions.sort(Comparator.comparingInt(o -> o.targetTier));
+                byPart[part.ordinal()] = partOptions.toArray(new UpgradeOption[0]);
+            }
+            BY_PART[slot] = byPart;
+        }
+    }
+
+    private static int indexSlot(int boatType)
+    {
+        return boatType >= 0 && boatType < BOAT_TYPE_COUNT ? boatType : BOAT_TYPE_COUNT;
+    }
+
+    static List<UpgradeOption> options()
+    {
+        return Collections.unmodifiableList(OPTIONS);
+    }
+
+    /**
+     * Interns the material and packs it with a quantity for the UpgradeOption constructor
+     */
+    private static long mat(String name, int qty)
+    {
+        Material material = MATERIALS_BY_NAME.get(name);
+        if (material == null)
+        {
+            material = new Material(MATERIALS.size(), name, KNOWN_ITEM_IDS.getOrDefault(name, -1));
+            MATERIALS.add(material);
+            MATERIALS_BY_NAME.put(name, material);
+        }
+        return ((long) material.id << 32) | qty;
+    }
+
+    /**
+     * Number of distinct materials, material ids are below this
+     */
+    public static int materialCount()
+    {
+        return MATERIALS.size();
+    }
+
+    static int itemIdsVersion()
+    {
+        return itemIdsVersion;
+    }
+
+    public static Material material(int id)
+    {
+        return MATERIALS.get(id);
+    }
+
+    /**
+     * @return the material with the exact name, null if no option uses it
+     */
+    static Material material(String name)
+    {
+        return MATERIALS_BY_NAME.get(name);
+    }
+
+    static List<Material> materials()
+    {
+        return Collections.unmodifiableList(MATERIALS);
+    }
+
+    /**
+     * Returns every option for the given part on the given boat type, ordered by tier
+     */
+    public static List<UpgradeOption> getPartOptions(int boatType, PartType part)
+    {
+        return Collections.unmodifiableList(Arrays.asList(BY_PART[indexSlot(boatType)][part.ordinal()]));
+    }
+
+    /**
+     * Returns the lowest tier option above currentTier for the given part, or null if the part is maxed
+     */
+    public static UpgradeOption getNextTier(int boatType, PartType part, int currentTier)
+    {
+        for (UpgradeOption o : BY_PART[indexSlot(boatType)][part.ordinal()])
+        {
+            if (o.targetTier > currentTier)
+            {
+                return o;
             }
+        }
+
+        return null;
+    }
 
+    /**
+     * Returns every option above the current tier of its part that the player has the sailing level for,
+     * ordered by required sailing level
+     * currentTiers is indexed by PartType ordinal, -1 meaning the part is not installed
+     */
+    public static List<UpgradeOption> getAvailableOptions(
+            int boatType,
+            int[] currentTiers,
+            int playerSailingLevel,
+            int playerConstructionLevel,
+            ConfigSnapshot config
+    )
+    {
+        List<UpgradeOption> out = new ArrayList<>();
+
+        boolean filterConstruction = config.filterConstructionRequirement;
+
+        for (UpgradeOption o : BY_SAILING_LEVEL[indexSlot(boatType)])
+        {
+            // Options are ordered by sailing level, nothing past this point is unlocked either
             if (playerSailingLevel < o.requiredSailingLevel)
+            {
+                break;
+            }
+
+            if (o.targetTier <= currentTiers[o.part.ordinal()])
             {
                 continue;
             }
@@ -422,7 +672,6 @@ public final class UpgradeData
             out.add(o);
         }
 
-        out.sort(Comparator.comparingInt(o -> o.requiredSailingLevel));
         return out;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package com.boatupgrades;
+
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.ImageUtil;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Upgrade icons packed into icon_atlas.png by the packIconAtlas Gradle task
+ * The atlas is decoded once and sliced into one sub-image per option ordinal
+ */
+@Slf4j
+public class UpgradeIconAtlas
+{
+    private static final String ATLAS_RESOURCE = "icon_atlas.png";
+    private static final String INDEX_RESOURCE = "icon_atlas.txt";
+
+    // Sub-image per option ordinal, null when the option has no icon in the atlas
+    private final BufferedImage[] icons;
+
+    private UpgradeIconAtlas(BufferedImage[] icons)
+    {
+        this.icons = icons;
+    }
+
+    public static UpgradeIconAtlas load(List<UpgradeData.UpgradeOption> options)
+    {
+        int maxOrdinal = -1;
+        for (UpgradeData.UpgradeOption opt : options)
+        {
+            maxOrdinal = Math.max(maxOrdinal, opt.ordinal);
+        }
+        final BufferedImage[] icons = new BufferedImage[maxOrdinal + 1];
+
+        final Map<String, int[]> cells = readIndex();
+        if (cells.isEmpty())
+        {
+            return new UpgradeIconAtlas(icons);
+        }
+
+        final BufferedImage atlas;
+        try
+        {
+            atlas = ImageUtil.loadImageResource(UpgradeIconAtlas.class, ATLAS_RESOURCE);
+        }
+        catch (RuntimeException e)
+        {
+            log.warn("Failed to load icon atlas", e);
+            return new UpgradeIconAtlas(icons);
+        }
+
+        int missing = 0;
+        for (UpgradeData.UpgradeOption opt : options)
+        {
+            for (String name : opt.iconNames)
+            {
+                int[] cell = cells.get(name);
+                if (cell != null)
+                {
+                    icons[opt.ordinal] = atlas.getSubimage(cell[0], cell[1], cell[2], cell[3]);
+                    break;
+                }
+            }
+
+            if (icons[opt.ordinal] == null)
+            {
+                missing++;
+            }
+        }
+
+        log.debug("Icon atlas sliced: {} cells, {} options without an icon", cells.size(), missing);
+        return new UpgradeIconAtlas(icons);
+    }
+
+    // file name -> {x, y, width, height}
+    private static Map<String, int[]> readIndex()
+    {
+        final Map<String, int[]> cells = new HashMap<>();
+
+        try (InputStream is = UpgradeIconAtlas.class.getResourceAsStream(INDEX_RESOURCE))
+        {
+            if (is == null)
+            {
+                log.warn("Icon atlas index not found at {}", INDEX_RESOURCE);
+                return cells;
+            }
+
+            BufferedReader r = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = r.readLine()) != null)
+            {
+                if (line.isEmpty() || line.startsWith("#"))
+                {
+                    continue;
+                }
+
+                try
+                {
+                    String[] cols = line.split(",");
+                    cells.put(cols[0], new int[]{
+                            Integer.parseInt(cols[1]),
+                            Integer.parseInt(cols[2]),
+                            Integer.parseInt(cols[3]),
+                            Integer.parseInt(cols[4])
+                    });
+                }
+                catch (RuntimeException e)
+                {
+                    log.warn("Skipping malformed icon atlas line '{}'", line);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            log.warn("Failed to load icon atlas index", e);
+        }
+
+        return cells;
+    }
+
+    /**
+     * @return the icon of opt scaled to the panel icon size, or null if the atlas has none
+     */
+    public BufferedImage get(UpgradeData.UpgradeOption opt)
+    {
+        return opt.ordinal < icons.length ? icons[opt.ordinal] : null;
+    }
+}
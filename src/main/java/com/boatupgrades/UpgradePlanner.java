@@ -0,0 +1,206 @@
+package com.boatupgrades;
+
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plans the ordered upgrades that take a boat from its current tiers to a target loadout
+ * Each part is upgraded one tier at a time along its chain from UpgradeData.getPartOptions, the path between
+ * two tiers of a part is memoized so what-if edits only walk the parts whose target changed
+ * Used from the EDT only
+ */
+@Singleton
+public class UpgradePlanner
+{
+    /**
+     * Tiers of one boat, indexed by PartType ordinal, -1 meaning the part is not installed
+     */
+    public static final class Loadout
+    {
+        public final int boatType;
+        private final int[] tiers;
+
+        public Loadout(int boatType, int[] tiers)
+        {
+            this.boatType = boatType;
+            this.tiers = tiers.clone();
+        }
+
+        public int getTier(PartType part)
+        {
+            return tiers[part.ordinal()];
+        }
+
+        boolean sameAs(int boatType, int[] tiers)
+        {
+            return this.boatType == boatType && Arrays.equals(this.tiers, tiers);
+        }
+    }
+
+    /**
+     * One upgrade of a plan with the highest sailing and construction levels needed up to and including it
+     */
+    public static final class Step
+    {
+        public final UpgradeData.UpgradeOption option;
+        public final int sailingGate;
+        public final int constructionGate;
+
+        Step(UpgradeData.UpgradeOption option, int sailingGate, int constructionGate)
+        {
+            this.option = option;
+            this.sailingGate = sailingGate;
+            this.constructionGate = constructionGate;
+        }
+    }
+
+    public static final class Plan
+    {
+        public final List<Step> steps;
+        // Total quantity per material id over every step
+        private final int[] materialTotals;
+
+        Plan(List<Step> steps, int[] materialTotals)
+        {
+            this.steps = Collections.unmodifiableList(steps);
+            this.materialTotals = materialTotals;
+        }
+
+        public int getMaterialTotal(int materialId)
+        {
+            return materialTotals[materialId];
+        }
+    }
+
+    // The chain of one part between two tiers, with its materials summed once
+    private static final class PartPath
+    {
+        final UpgradeData.UpgradeOption[] options;
+        // Highest level needed up to each option of the chain, keeps the chain order when plans sort by level
+        final int[] sailingGates;
+        final int[] materialIds;
+        final int[] quantities;
+
+        PartPath(UpgradeData.UpgradeOption[] options)
+        {
+            this.options = options;
+            this.sailingGates = new int[options.length];
+
+            final int[] totals = new int[UpgradeData.materialCount()];
+            int distinct = 0;
+            int gate = 0;
+            for (int i = 0; i < options.length; i++)
+            {
+                gate = Math.max(gate, options[i].requiredSailingLevel);
+                sailingGates[i] = gate;
+
+                final int[] ids = options[i].materialIds;
+                for (int m = 0; m < ids.length; m++)
+                {
+                    if (totals[ids[m]] == 0)
+                    {
+                        distinct++;
+                    }
+                    totals[ids[m]] += options[i].quantities[m];
+                }
+            }
+
+            this.materialIds = new int[distinct];
+            this.quantities = new int[distinct];
+            for (int id = 0, n = 0; id < totals.length; id++)
+            {
+                if (totals[id] != 0)
+                {
+                    materialIds[n] = id;
+                    quantities[n] = totals[id];
+                    n++;
+                }
+            }
+        }
+    }
+
+    private static final PartPath EMPTY_PATH = new PartPath(new UpgradeData.UpgradeOption[0]);
+
+    private final Map<Integer, PartPath> partPaths = new HashMap<>();
+
+    /**
+     * @param targetTiers target tier per PartType ordinal, parts at or above their target are left as they are
+     */
+    public Plan plan(Loadout current, int[] targetTiers)
+    {
+        final PartPath[] paths = new PartPath[PartType.COUNT];
+        final int[] materialTotals = new int[UpgradeData.materialCount()];
+        int stepCount = 0;
+
+        for (PartType part : PartType.VALUES)
+        {
+            PartPath path = partPath(current.boatType, part, current.getTier(part), targetTiers[part.ordinal()]);
+            paths[part.ordinal()] = path;
+            stepCount += path.options.length;
+
+            for (int i = 0; i < path.materialIds.length; i++)
+            {
+                materialTotals[path.materialIds[i]] += path.quantities[i];
+            }
+        }
+
+        // (sailing gate, part ordinal, chain index) packed into one sortable long,
+        // so the options of one part stay in tier order between equal gates
+        final long[] order = new long[stepCount];
+        int n = 0;
+        for (int p = 0; p < paths.length; p++)
+        {
+            for (int i = 0; i < paths[p].options.length; i++)
+            {
+                order[n++] = ((long) paths[p].sailingGates[i] << 32) | (p << 16) | i;
+            }
+        }
+        Arrays.sort(order);
+
+        final List<Step> steps = new ArrayList<>(stepCount);
+        int constructionGate = 0;
+        for (long packed : order)
+        {
+            PartPath path = paths[(int) (packed >>> 16) & 0xFFFF];
+            int i = (int) packed & 0xFFFF;
+
+            UpgradeData.UpgradeOption opt = path.options[i];
+            constructionGate = Math.max(constructionGate, opt.requiredConstructionLevel);
+            steps.add(new Step(opt, path.sailingGates[i], constructionGate));
+        }
+
+        return new Plan(steps, materialTotals);
+    }
+
+    private PartPath partPath(int boatType, PartType part, int fromTier, int toTier)
+    {
+        if (toTier <= fromTier)
+        {
+            return EMPTY_PATH;
+        }
+
+        // Tiers fit in 4 bits once shifted past the -1 of a part that is not installed
+        final int key = ((boatType + 1) << 16) | (part.ordinal() << 8) | ((fromTier + 1) << 4) | (toTier + 1);
+        PartPath path = partPaths.get(key);
+        if (path == null)
+        {
+            List<UpgradeData.UpgradeOption> chain = new ArrayList<>();
+            for (UpgradeData.UpgradeOption opt : UpgradeData.getPartOptions(boatType, part))
+            {
+                if (opt.targetTier > fromTier && opt.targetTier <= toTier)
+                {
+                    chain.add(opt);
+                }
+            }
+
+            path = new PartPath(chain.toArray(new UpgradeData.UpgradeOption[0]));
+            partPaths.put(key, path);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,84 @@
+package com.boatupgrades;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result of one upgrade state computation.
+ * Published by UpgradeStateService and only ever read by the overlay render path.
+ */
+public final class UpgradeSnapshot
+{
+    public static final UpgradeSnapshot HIDDEN = new UpgradeSnapshot(0L, false, 0L, Collections.emptyList());
+
+    public static final class Entry
+    {
+        public final UpgradeData.UpgradeOption option;
+        public final boolean showSchematicRequirement;
+        public final boolean showConstructionRequirement;
+        // Materials of the option owned in the needed quantity, all of them means it can be built now,
+        // OwnedMaterialsService.HIDDEN when no owned materials line is shown
+        public final int materialsOwned;
+
+        public Entry(UpgradeData.UpgradeOption option, boolean showSchematicRequirement, boolean showConstructionRequirement,
+                     int materialsOwned)
+        {
+            this.option = option;
+            this.showSchematicRequirement = showSchematicRequirement;
+            this.showConstructionRequirement = showConstructionRequirement;
+            this.materialsOwned = materialsOwned;
+        }
+
+        public boolean showsMaterialsOwned()
+        {
+            return materialsOwned != OwnedMaterialsService.HIDDEN;
+        }
+
+        public boolean canBuild()
+        {
+            return materialsOwned == option.materialIds.length;
+        }
+    }
+
+    public final long version;
+    public final boolean visible;
+    public final long expiresAtMillis;
+    public final List<Entry> entries;
+
+    public UpgradeSnapshot(long version, boolean visible, long expiresAtMillis, List<Entry> entries)
+    {
+        this.version = version;
+        this.visible = visible;
+        this.expiresAtMillis = expiresAtMillis;
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public boolean isVisibleAt(long nowMillis)
+    {
+        return visible && !entries.isEmpty() && nowMillis <= expiresAtMillis;
+    }
+
+    boolean sameContent(boolean visible, long expiresAtMillis, List<Entry> entries)
+    {
+        if (this.visible != visible || this.expiresAtMillis != expiresAtMillis || this.entries.size() != entries.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < entries.size(); i++)
+        {
+            Entry a = this.entries.get(i);
+            Entry b = entries.get(i);
+
+            if (a.option != b.option
+                    || a.showSchematicRequirement != b.showSchematicRequirement
+                    || a.showConstructionRequirement != b.showConstructionRequirement
+                    || a.materialsOwned != b.materialsOwned)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
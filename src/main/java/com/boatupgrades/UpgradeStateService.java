@@ -0,0 +1,455 @@
+package com.boatupgrades;
+
+import com.boatupgrades.utils.SchematicUtils;
+import com.boatupgrades.utils.UpgradeVisibilityUtils;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.Skill;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarClientStrChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static net.runelite.api.gameval.VarClientID.SAILING_SIDEPANEL_CAPTAIN_NAME;
+import static net.runelite.api.gameval.VarbitID.SAILING_BOARDED_BOAT;
+import static net.runelite.api.gameval.VarbitID.SAILING_BOARDED_BOAT_TYPE;
+import static net.runelite.api.gameval.VarbitID.SAILING_PREVIOUS_BOAT_TYPE_ID;
+import static net.runelite.api.gameval.VarbitID.SAILING_SIDEPANEL_FACILITY_HELM;
+import static net.runelite.api.gameval.VarbitID.SAILING_SIDEPANEL_FACILITY_HULL;
+import static net.runelite.api.gameval.VarbitID.SAILING_SIDEPANEL_FACILITY_KEEL;
+import static net.runelite.api.gameval.VarbitID.SAILING_SIDEPANEL_FACILITY_SAIL;
+import static net.runelite.api.gameval.VarbitID.SAILING_SIDEPANEL_SHIPYARD_MODE;
+
+/**
+ * UpgradeStateService owns the available upgrade state for the current boat
+ * It only recomputes when one of its inputs changes (varbits, stats, a facility scan or config)
+ * and publishes the result as an immutable UpgradeSnapshot for the overlay to draw
+ */
+@Singleton
+@Slf4j
+public class UpgradeStateService
+{
+    private final Client client;
+    private final ClientThread clientThread;
+    private final EventBus eventBus;
+    private final ConfigSnapshotService configSnapshotService;
+    private final FacilityService facilityService;
+    private final AvailableUpgradesService availableUpgradesService;
+    private final BoatUpgradesPanel panel;
+    private final UpgradeVisibilityUtils upgradeVisibilityUtils;
+    private final SchematicUtils schematicUtils;
+    private final OwnedMaterialsService ownedMaterialsService;
+
+    private volatile UpgradeSnapshot snapshot = UpgradeSnapshot.HIDDEN;
+    private long version = 0L;
+    // Set from any thread by invalidate, cleared on the client thread right before the recompute runs
+    private final AtomicBoolean recomputeQueued = new AtomicBoolean();
+    private int lastSailingLevel = -1;
+    private int lastConstructionLevel = -1;
+
+    // Reused tier vector indexed by PartType ordinal
+    private final int[] currentTiers = new int[PartType.COUNT];
+
+    private List<UpgradeData.UpgradeOption> cachedAvailable = new ArrayList<>();
+    private long cacheExpiryMillis = 0L;
+    private boolean prevActive = false;
+    private String lastCaptainName = "";
+    private int lastBoatTypeRaw = -1;
+    private long lastRequirementSignature = 0L;
+    private boolean lastActiveWasShipyard = false;
+
+    @Inject
+    public UpgradeStateService(
+            Client client,
+            ClientThread clientThread,
+            EventBus eventBus,
+            ConfigSnapshotService configSnapshotService,
+            FacilityService facilityService,
+            AvailableUpgradesService availableUpgradesService,
+            BoatUpgradesPanel panel,
+            UpgradeVisibilityUtils upgradeVisibilityUtils,
+            SchematicUtils schematicUtils,
+            OwnedMaterialsService ownedMaterialsService
+    )
+    {
+        this.client = client;
+        this.clientThread = clientThread;
+        this.eventBus = eventBus;
+        this.configSnapshotService = configSnapshotService;
+        this.facilityService = facilityService;
+        this.availableUpgradesService = availableUpgradesService;
+        this.panel = panel;
+        this.upgradeVisibilityUtils = upgradeVisibilityUtils;
+        this.schematicUtils = schematicUtils;
+        this.ownedMaterialsService = ownedMaterialsService;
+    }
+
+    public void start()
+    {
+        eventBus.register(this);
+        clientThread.invokeLater(schematicUtils::refresh);
+        invalidate();
+    }
+
+    public void stop()
+    {
+        eventBus.unregister(this);
+        snapshot = UpgradeSnapshot.HIDDEN;
+    }
+
+    public UpgradeSnapshot getSnapshot()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Schedules a recompute on the client thread
+     * Any number of invalidations within the same client cycle result in a single recompute
+     * Safe to call from any thread
+     */
+    public void invalidate()
+    {
+        if (!recomputeQueued.compareAndSet(false, true))
+        {
+            return;
+        }
+
+        clientThread.invokeLater(() ->
+        {
+            recomputeQueued.set(false);
+            recompute();
+        });
+    }
+
+    @Subscribe
+    public void onVarbitChanged(VarbitChanged event)
+    {
+        final int varbitId = event.getVarbitId();
+
+        if (varbitId == SAILING_BOARDED_BOAT
+                || varbitId == SAILING_SIDEPANEL_SHIPYARD_MODE
+                || varbitId == SAILING_BOARDED_BOAT_TYPE
+                || varbitId == SAILING_PREVIOUS_BOAT_TYPE_ID
+                || varbitId == SAILING_SIDEPANEL_FACILITY_SAIL
+                || varbitId == SAILING_SIDEPANEL_FACILITY_HELM
+                || varbitId == SAILING_SIDEPANEL_FACILITY_KEEL
+                || varbitId == SAILING_SIDEPANEL_FACILITY_HULL
+                || schematicUtils.onVarbitChanged(varbitId, event.getValue()))
+        {
+            invalidate();
+        }
+    }
+
+    @Subscribe
+    public void onStatChanged(StatChanged event)
+    {
+        // StatChanged fires on every xp drop while sailing, only a level change affects the upgrades
+        if (event.getSkill() == Skill.SAILING && event.getBoostedLevel() != lastSailingLevel)
+        {
+            lastSailingLevel = event.getBoostedLevel();
+            invalidate();
+        }
+        else if (event.getSkill() == Skill.CONSTRUCTION && event.getBoostedLevel() != lastConstructionLevel)
+        {
+            lastConstructionLevel = event.getBoostedLevel();
+            invalidate();
+        }
+    }
+
+    @Subscribe
+    public void onVarClientStrChanged(VarClientStrChanged event)
+    {
+        if (event.getIndex() == SAILING_SIDEPANEL_CAPTAIN_NAME)
+        {
+            invalidate();
+        }
+    }
+
+    @Subscribe
+    public void onFacilitiesScanned(FacilitiesScanned event)
+    {
+        invalidate();
+    }
+
+    @Subscribe
+    public void onOwnedMaterialsChanged(OwnedMaterialsChanged event)
+    {
+        invalidate();
+    }
+
+    /**
+     * Must run on the client thread, the expiry state is only read and written by recompute
+     */
+    public void refreshCacheExpiry()
+    {
+        if (cachedAvailable == null || cachedAvailable.isEmpty())
+        {
+            return;
+        }
+
+        if (cacheExpiryMillis == Long.MAX_VALUE)
+        {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int minutes = configSnapshotService.get().persistMinutes;
+        cacheExpiryMillis = now + (minutes * 60L * 1000L);
+        invalidate();
+    }
+
+    private void recompute()
+    {
+        final ConfigSnapshot config = configSnapshotService.get();
+        int boarded = client.getVarbitValue(SAILING_BOARDED_BOAT);
+        int shipyardMode = client.getVarbitValue(SAILING_SIDEPANEL_SHIPYARD_MODE);
+
+        boolean isBoarded = boarded != 0;
+        boolean isInShipyard = shipyardMode != 0;
+
+        boolean isActive = isBoarded || isInShipyard;
+
+        String captainRaw = client.getVarcStrValue(SAILING_SIDEPANEL_CAPTAIN_NAME);
+        String captain = captainRaw == null ? "" : captainRaw.replace('\u00A0', ' ').trim();
+
+        Player localPlayer = client.getLocalPlayer();
+        String localName = localPlayer == null ? null : localPlayer.getName();
+
+        boolean userIsCaptain = localName != null && localName.equalsIgnoreCase(captain);
+        if (isActive && !userIsCaptain)
+        {
+            prevActive = true;
+            publish(false, 0L, new ArrayList<>());
+            return;
+        }
+
+        if (isActive)
+        {
+            int boatTypeRaw;
+            if (isBoarded)
+            {
+                boatTypeRaw = client.getVarbitValue(SAILING_BOARDED_BOAT_TYPE);
+            }
+            else
+            {
+                boatTypeRaw = client.getVarbitValue(SAILING_PREVIOUS_BOAT_TYPE_ID);
+            }
+
+            int sailingLevel = client.getBoostedSkillLevel(Skill.SAILING);
+            int constructionLevel = client.getBoostedSkillLevel(Skill.CONSTRUCTION);
+
+            int sailTier = client.getVarbitValue(SAILING_SIDEPANEL_FACILITY_SAIL);
+            int helmTier = client.getVarbitValue(SAILING_SIDEPANEL_FACILITY_HELM);
+            int keelTier = client.getVarbitValue(SAILING_SIDEPANEL_FACILITY_KEEL);
+            int hullTier = client.getVarbitValue(SAILING_SIDEPANEL_FACILITY_HULL);
+
+            currentTiers[PartType.SAILS.ordinal()] = sailTier;
+            currentTiers[PartType.HELM.ordinal()] = helmTier;
+            currentTiers[PartType.KEEL.ordinal()] = keelTier;
+            currentTiers[PartType.HULL.ordinal()] = hullTier;
+            currentTiers[PartType.BASE.ordinal()] = hullTier;
+
+            facilityService.copyHighestTiers(currentTiers);
+
+            List<UpgradeData.UpgradeOption> liveAvailable =
+                    UpgradeData.getAvailableOptions(
+                            boatTypeRaw,
+                            currentTiers,
+                            sailingLevel,
+                            constructionLevel,
+                            config
+                    );
+
+            List<UpgradeData.UpgradeOption> toDisplayLive = upgradeVisibilityUtils.getVisibleUpgrades(liveAvailable);
+
+            boolean panelStale = checkRequirementSignatureChanged(toDisplayLive);
+
+            if (!facilityService.hasDetectedAllFacilities())
+            {
+                notifyPanel(panelStale);
+                publish(false, 0L, new ArrayList<>());
+                return;
+            }
+
+            panelStale |= availableUpgradesService.updateIfChanged(toDisplayLive);
+            panelStale |= availableUpgradesService.updateLoadoutIfChanged(boatTypeRaw, currentTiers);
+            notifyPanel(panelStale);
+
+            if (!liveAvailable.isEmpty())
+            {
+                cachedAvailable = new ArrayList<>(liveAvailable);
+                cacheExpiryMillis = Long.MAX_VALUE;
+                lastCaptainName = captain;
+                lastBoatTypeRaw = boatTypeRaw;
+                lastActiveWasShipyard = isInShipyard;
+            }
+            else
+            {
+                cachedAvailable.clear();
+                cacheExpiryMillis = 0L;
+                lastCaptainName = "";
+                lastBoatTypeRaw = -1;
+                lastActiveWasShipyard = false;
+            }
+
+            prevActive = true;
+
+            boolean visible = config.displayOverlay && (!config.overlayOnlyInShipyard || isInShipyard);
+
+            publish(visible, Long.MAX_VALUE, toEntries(toDisplayLive));
+        }
+        else
+        {
+            if (prevActive)
+            {
+                if (!cachedAvailable.isEmpty())
+                {
+                    int minutes = config.persistMinutes;
+                    cacheExpiryMillis = System.currentTimeMillis() + (minutes * 60L * 1000L);
+                    facilityService.resetAllDetectedTiers();
+                }
+                else
+                {
+                    cacheExpiryMillis = 0L;
+                }
+            }
+
+            prevActive = false;
+
+            List<UpgradeData.UpgradeOption> toDisplayCached = upgradeVisibilityUtils.getVisibleUpgrades(cachedAvailable);
+
+            boolean panelStale = checkRequirementSignatureChanged(toDisplayCached);
+            panelStale |= availableUpgradesService.updateIfChanged(toDisplayCached);
+            notifyPanel(panelStale);
+
+            facilityService.detectedFacilitiesComplete = false;
+
+            String showCaptain = lastCaptainName == null ? "" : lastCaptainName;
+            boolean captainMatches = !showCaptain.isEmpty() && localName != null && !localName.isEmpty()
+                    && localName.equalsIgnoreCase(showCaptain);
+
+            boolean visible = !cachedAvailable.isEmpty()
+                    && captainMatches
+                    && config.displayOverlay
+                    && (!config.overlayOnlyInShipyard || lastActiveWasShipyard);
+
+            publish(visible, cacheExpiryMillis, toEntries(toDisplayCached));
+        }
+    }
+
+    private List<UpgradeSnapshot.Entry> toEntries(List<UpgradeData.UpgradeOption> options)
+    {
+        List<UpgradeSnapshot.Entry> entries = new ArrayList<>(options.size());
+        final ConfigSnapshot config = configSnapshotService.get();
+
+        for (UpgradeData.UpgradeOption opt : options)
+        {
+            boolean hasSchematic = schematicUtils.hasSchematic(opt);
+            boolean meetsConstruction = upgradeVisibilityUtils.meetsConstructionRequirement(opt);
+
+            entries.add(new UpgradeSnapshot.Entry(
+                    opt,
+                    !hasSchematic && !config.filterSchematicRequirement,
+                    !meetsConstruction && !config.filterConstructionRequirement,
+                    materialsOwnedLine(opt, config)
+            ));
+        }
+
+        return entries;
+    }
+
+    private int materialsOwnedLine(UpgradeData.UpgradeOption opt, ConfigSnapshot config)
+    {
+        return config.showOwnedMaterials ? ownedMaterialsService.knownSatisfiedMaterials(opt) : OwnedMaterialsService.HIDDEN;
+    }
+
+    private void publish(boolean visible, long expiresAtMillis, List<UpgradeSnapshot.Entry> entries)
+    {
+        // Keep the current snapshot and its version when nothing visible changed,
+        // so the overlay keeps drawing its already built component tree
+        if (snapshot.sameContent(visible, expiresAtMillis, entries))
+        {
+            return;
+        }
+
+        snapshot = new UpgradeSnapshot(++version, visible, expiresAtMillis, entries);
+    }
+
+    /**
+     * A recompute notifies the panel at most once, however many of its inputs changed
+     */
+    private void notifyPanel(boolean panelStale)
+    {
+        if (panelStale)
+        {
+            log.debug("[UpgradeState] Notifying panel of upgrade change");
+            panel.onAvailableUpgradesChanged();
+        }
+    }
+
+    /**
+     * 64-bit multiply-xor hash folding one packed word (option ordinal, owned materials, schematic-missing,
+     * con-missing) per displayed option, using the FNV offset basis and prime
+     * Two lists with the same options and requirement lines hash equal without building any strings
+     */
+    @VisibleForTesting
+    long computeRequirementSignature(List<UpgradeData.UpgradeOption> options)
+    {
+        final ConfigSnapshot config = configSnapshotService.get();
+        final boolean showSchematic = !config.filterSchematicRequirement;
+        final boolean showConstruction = !config.filterConstructionRequirement;
+
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < options.size(); i++)
+        {
+            UpgradeData.UpgradeOption opt = options.get(i);
+
+            // Bit 5 is set when the owned materials line shows, UpgradeData caps options at MAX_MATERIALS_PER_OPTION (7)
+            // so the owned count fits the 3 bits between it and the requirement flags
+            final int owned = materialsOwnedLine(opt, config);
+            int flags = (opt.ordinal << 6);
+            if (owned != OwnedMaterialsService.HIDDEN)
+            {
+                flags |= 32 | (owned << 2);
+            }
+
+            if (showSchematic && !schematicUtils.hasSchematic(opt))
+            {
+                flags |= 1;
+            }
+
+            if (showConstruction && !upgradeVisibilityUtils.meetsConstructionRequirement(opt))
+            {
+                flags |= 2;
+            }
+
+            hash = (hash ^ flags) * 0x100000001b3L;
+        }
+
+        return (hash ^ options.size()) * 0x100000001b3L;
+    }
+
+    private boolean checkRequirementSignatureChanged(List<UpgradeData.UpgradeOption> options)
+    {
+        long newSignature = computeRequirementSignature(options);
+
+        if (newSignature != lastRequirementSignature)
+        {
+            lastRequirementSignature = newSignature;
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -1,15 +1,24 @@
 package com.boatupgrades.utils;
 
+import com.boatupgrades.UpgradeData;
 import net.runelite.api.Client;
 import net.runelite.api.gameval.VarbitID;
 
 import javax.inject.Inject;
+import javax.inject.Singleton;
 import java.util.*;
 
+/**
+ * Tracks which lost schematics are unlocked as a bitmask indexed by position in SCHEMATICS
+ * The mask is only refreshed from schematic VarbitChanged events, checks never read varbits
+ */
+@Singleton
 public class SchematicUtils
 {
     private final Client client;
 
+    private volatile int unlockedMask;
+
     @Inject
     public SchematicUtils(Client client)
     {
@@ -29,22 +38,62 @@ public class SchematicUtils
             new SchematicEntry("Dragon keel schematic", "Dragon keel", VarbitID.LOST_SCHEMATIC_DRAGON_KEEL)
     );
 
-    public boolean hasSchematic(String upgradeName)
+    /**
+     * @return the schematic index gating the upgrade, or -1 if it needs no schematic
+     */
+    public static int schematicIndexOf(String upgradeName)
+    {
+        for (int i = 0; i < SCHEMATICS.size(); i++)
+        {
+            if (SCHEMATICS.get(i).getUpgradeName().equals(upgradeName))
+            {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean hasSchematic(UpgradeData.UpgradeOption opt)
     {
-        Optional<SchematicEntry> entry = SCHEMATICS.stream()
-                .filter(s -> s.getUpgradeName().equals(upgradeName))
-                .findFirst();
+        return opt.schematicIndex < 0 || (unlockedMask & (1 << opt.schematicIndex)) != 0;
+    }
 
-        return entry.map(schematicEntry -> client.getVarbitValue(schematicEntry.getVarbit()) == 1).orElse(true);
+    /**
+     * Reads every schematic varbit, used once on startup before VarbitChanged events take over
+     */
+    public void refresh()
+    {
+        int mask = 0;
+        for (int i = 0; i < SCHEMATICS.size(); i++)
+        {
+            if (client.getVarbitValue(SCHEMATICS.get(i).getVarbit()) == 1)
+            {
+                mask |= 1 << i;
+            }
+        }
+        unlockedMask = mask;
+    }
+
+    /**
+     * @return true if the varbit belongs to a schematic, in which case the unlock mask has been updated
+     */
+    public boolean onVarbitChanged(int varbitId, int value)
+    {
+        for (int i = 0; i < SCHEMATICS.size(); i++)
+        {
+            if (SCHEMATICS.get(i).getVarbit() == varbitId)
+            {
+                unlockedMask = value == 1 ? unlockedMask | (1 << i) : unlockedMask & ~(1 << i);
+                return true;
+            }
+        }
 
+        return false;
     }
 
-    public String getSchematicNameForUpgrade(String upgradeName)
+    public static String getSchematicName(int schematicIndex)
     {
-        return SCHEMATICS.stream()
-                .filter(s -> s.getUpgradeName().equals(upgradeName))
-                .map(SchematicEntry::getSchematicName)
-                .findFirst()
-                .orElse(null);
+        return SCHEMATICS.get(schematicIndex).getSchematicName();
     }
 }
\ No newline at end of file
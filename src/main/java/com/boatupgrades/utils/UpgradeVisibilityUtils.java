@@ -1,6 +1,8 @@
 package com.boatupgrades.utils;
 
-import com.boatupgrades.BoatUpgradesConfig;
+import com.boatupgrades.ConfigSnapshot;
+import com.boatupgrades.ConfigSnapshotService;
+import com.boatupgrades.PartType;
 import com.boatupgrades.UpgradeData;
 import net.runelite.api.Client;
 import net.runelite.api.Skill;
@@ -11,18 +13,18 @@ import java.util.*;
 public class UpgradeVisibilityUtils
 {
     private final Client client;
-    private final BoatUpgradesConfig config;
+    private final ConfigSnapshotService configSnapshotService;
     private final SchematicUtils schematicUtils;
 
     @Inject
     public UpgradeVisibilityUtils(
             Client client,
-            BoatUpgradesConfig config,
+            ConfigSnapshotService configSnapshotService,
             SchematicUtils schematicUtils
     )
     {
         this.client = client;
-        this.config = config;
+        this.configSnapshotService = configSnapshotService;
         this.schematicUtils = schematicUtils;
     }
 
@@ -34,15 +36,16 @@ public class UpgradeVisibilityUtils
 
     public boolean shouldShowUpgrade(UpgradeData.UpgradeOption opt)
     {
-        boolean hasSchematic = schematicUtils.hasSchematic(opt.displayName);
+        final ConfigSnapshot config = configSnapshotService.get();
+        boolean hasSchematic = schematicUtils.hasSchematic(opt);
         boolean meetsConstruction = meetsConstructionRequirement(opt);
 
-        if (config.filterSchematicRequirement() && !hasSchematic)
+        if (config.filterSchematicRequirement && !hasSchematic)
         {
             return false;
         }
 
-        if (config.filterConstructionRequirement() && !meetsConstruction)
+        if (config.filterConstructionRequirement && !meetsConstruction)
         {
             return false;
         }
@@ -59,22 +62,25 @@ public class UpgradeVisibilityUtils
 
         List<UpgradeData.UpgradeOption> visible = new ArrayList<>();
 
+        final ConfigSnapshot config = configSnapshotService.get();
+        final int enabledParts = config.enabledPartMask;
+
         for (UpgradeData.UpgradeOption opt : options)
         {
-            if (!isConfigEnabled(opt.partName))
+            if ((enabledParts & opt.part.mask()) == 0)
             {
                 continue;
             }
 
-            boolean hasSchematic = schematicUtils.hasSchematic(opt.displayName);
+            boolean hasSchematic = schematicUtils.hasSchematic(opt);
             boolean meetsConstruction = meetsConstructionRequirement(opt);
 
-            if (config.filterSchematicRequirement() && !hasSchematic)
+            if (config.filterSchematicRequirement && !hasSchematic)
             {
                 continue;
             }
 
-            if (config.filterConstructionRequirement() && !meetsConstruction)
+            if (config.filterConstructionRequirement && !meetsConstruction)
             {
                 continue;
             }
@@ -82,53 +88,30 @@ public class UpgradeVisibilityUtils
             visible.add(opt);
         }
 
-        if (!config.hideLowerTiers())
+        if (!config.hideLowerTiers)
         {
             return visible;
         }
 
-        Map<String, UpgradeData.UpgradeOption> best = new LinkedHashMap<>();
-        for (UpgradeData.UpgradeOption opt : visible)
+        // Options arrive ordered by sailing level and each part's tiers climb with sailing level,
+        // so the last visible option of a part is its highest tier
+        boolean[] seenPart = new boolean[PartType.COUNT];
+        List<UpgradeData.UpgradeOption> result = new ArrayList<>();
+
+        for (int i = visible.size() - 1; i >= 0; i--)
         {
-            best.merge(
-                    opt.partName,
-                    opt,
-                    (a, b) -> b.targetTier > a.targetTier ? b : a
-            );
-        }
+            UpgradeData.UpgradeOption opt = visible.get(i);
+            if (seenPart[opt.part.ordinal()])
+            {
+                continue;
+            }
 
-        List<UpgradeData.UpgradeOption> result = new ArrayList<>(best.values());
+            seenPart[opt.part.ordinal()] = true;
+            result.add(opt);
+        }
 
-        result.sort(Comparator.comparingInt(o -> o.requiredSailingLevel));
+        Collections.reverse(result);
 
         return result;
     }
-
-    public boolean isConfigEnabled(String partName)
-    {
-        switch (partName)
-        {
-            case "Base":
-            case "Hull": return config.showBaseHull();
-            case "Helm": return config.showHelm();
-            case "Sails": return config.showSails();
-            case "Keel": return config.showKeel();
-            case "Salvaging Hook": return config.showSalvagingHook();
-            case "Cargo Hold": return config.showCargoHold();
-            case "Cannon": return config.showCannon();
-            case "Teleport Focus": return config.showTeleportFocus();
-            case "Wind Device": return config.showWindDevice();
-            case "Trawling Net": return config.showTrawlingNet();
-            case "Chum Station": return config.showChumStation();
-            case "Fathom Device": return config.showFathomDevice();
-            case "Range": return config.showRange();
-            case "Keg": return config.showKeg();
-            case "Anchor": return config.showAnchor();
-            case "Inoculation Station": return config.showInoculationStation();
-            case "Salvaging Station": return config.showSalvagingStation();
-            case "Crystal Extractor": return config.showCrystalExtractor();
-            case "Eternal Brazier": return config.showEternalBrazier();
-            default: return true;
-        }
-    }
 }
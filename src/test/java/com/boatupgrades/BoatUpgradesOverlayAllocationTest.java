@@ -0,0 +1,188 @@
+package com.boatupgrades;
+
+import com.boatupgrades.utils.SchematicUtils;
+import com.boatupgrades.utils.UpgradeVisibilityUtils;
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.Skill;
+import net.runelite.client.callback.ClientThread;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.runelite.api.gameval.VarClientID.SAILING_SIDEPANEL_CAPTAIN_NAME;
+import static net.runelite.api.gameval.VarbitID.SAILING_BOARDED_BOAT;
+import static net.runelite.api.gameval.VarbitID.SAILING_BOARDED_BOAT_TYPE;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Guards the overlay frame path against allocation regressions
+ * The overlay's own overhead is measured as the difference between BoatUpgradesOverlay.render and
+ * rendering its PanelComponent directly, so RuneLite's component internals are not counted
+ */
+public class BoatUpgradesOverlayAllocationTest
+{
+    private static final int WARMUP_FRAMES = 20_000;
+    private static final int MEASURED_FRAMES = 10_000;
+    private static final long MAX_OVERHEAD_BYTES_PER_FRAME = 16;
+
+    private final Map<Integer, Integer> varbits = new HashMap<>();
+
+    private BoatUpgradesOverlay overlay;
+    private Graphics2D graphics;
+
+    @Before
+    public void setUp()
+    {
+        varbits.put(SAILING_BOARDED_BOAT, 1);
+        varbits.put(SAILING_BOARDED_BOAT_TYPE, 2);
+
+        final Player player = (Player) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Player.class},
+                (proxy, method, args) -> "getName".equals(method.getName()) ? "Captain" : null
+        );
+
+        final Client client = (Client) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Client.class},
+                (proxy, method, args) ->
+                {
+                    switch (method.getName())
+                    {
+                        case "getVarbitValue":
+                            return varbits.getOrDefault((Integer) args[0], 0);
+                        case "getVarcStrValue":
+                            return (Integer) args[0] == SAILING_SIDEPANEL_CAPTAIN_NAME ? "Captain" : "";
+                        case "getBoostedSkillLevel":
+                            return args[0] == Skill.SAILING || args[0] == Skill.CONSTRUCTION ? 60 : 1;
+                        case "getLocalPlayer":
+                            return player;
+                        default:
+                            return null;
+                    }
+                }
+        );
+
+        final ClientThread clientThread = new ClientThread()
+        {
+            @Override
+            public void invokeLater(Runnable r)
+            {
+                r.run();
+            }
+        };
+
+        final BoatUpgradesConfig config = new BoatUpgradesConfig()
+        {
+            @Override
+            public void setLastSeenChangelogVersion(String value)
+            {
+            }
+
+            @Override
+            public void setMyList(String value)
+            {
+            }
+
+            @Override
+            public void setMaterialItemIds(String value)
+            {
+            }
+        };
+
+        final ConfigSnapshotService configSnapshotService = new ConfigSnapshotService(config);
+
+        final BoatUpgradesPanel panel = new BoatUpgradesPanel(client, null, configSnapshotService)
+        {
+            @Override
+            public void onAvailableUpgradesChanged()
+            {
+            }
+        };
+
+        final FacilityService facilityService = new FacilityService(client, null);
+        facilityService.detectedFacilitiesComplete = true;
+
+        final SchematicUtils schematicUtils = new SchematicUtils(client);
+
+        final UpgradeStateService upgradeStateService = new UpgradeStateService(
+                client,
+                clientThread,
+                null,
+                configSnapshotService,
+                facilityService,
+                new AvailableUpgradesService(),
+                panel,
+                new UpgradeVisibilityUtils(client, configSnapshotService, schematicUtils),
+                schematicUtils,
+                new OwnedMaterialsService(client, null, null)
+        );
+        upgradeStateService.invalidate();
+
+        overlay = new BoatUpgradesOverlay(upgradeStateService);
+        graphics = new BufferedImage(400, 600, BufferedImage.TYPE_INT_ARGB).createGraphics();
+    }
+
+    @Test
+    public void steadyStateRenderDoesNotAllocate()
+    {
+        final com.sun.management.ThreadMXBean threadBean = threadBean();
+        assumeTrue("Thread allocation counting is not supported", threadBean != null);
+
+        assertTrue("Snapshot should be visible for a boarded captain", overlay.render(graphics) != null);
+
+        for (int i = 0; i < WARMUP_FRAMES; i++)
+        {
+            overlay.render(graphics);
+            overlay.panelComponent.render(graphics);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_FRAMES; i++)
+        {
+            overlay.render(graphics);
+        }
+        final long overlayBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_FRAMES; i++)
+        {
+            overlay.panelComponent.render(graphics);
+        }
+        final long panelBytes = threadBean.getThreadAllocatedBytes(threadId) - start;
+
+        final long overheadPerFrame = (overlayBytes - panelBytes) / MEASURED_FRAMES;
+
+        assertTrue(
+                "Overlay render allocated " + overheadPerFrame + " bytes per frame beyond its PanelComponent",
+                overheadPerFrame <= MAX_OVERHEAD_BYTES_PER_FRAME
+        );
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean()
+    {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+        {
+            return null;
+        }
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported())
+        {
+            return null;
+        }
+
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+}
@@ -0,0 +1,50 @@
+package com.boatupgrades;
+
+import com.google.common.collect.ImmutableSet;
+import net.runelite.client.config.ConfigItem;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Guards onConfigChanged against settings that change the overlay but never reach the snapshot
+ * Every visible BoatUpgradesConfig item is either read by ConfigSnapshot or handled on its own
+ */
+public class ConfigSnapshotKeysTest
+{
+    // Visible settings BoatUpgradesPlugin.onConfigChanged handles without the snapshot
+    private static final Set<String> NOT_IN_SNAPSHOT = ImmutableSet.of(
+            "panelPosition",
+            "hotspotLearningMode"
+    );
+
+    @Test
+    public void everyVisibleSettingIsReadOrDeliberatelyExcluded()
+    {
+        for (Method method : BoatUpgradesConfig.class.getMethods())
+        {
+            final ConfigItem item = method.getAnnotation(ConfigItem.class);
+            if (item == null || item.hidden())
+            {
+                continue;
+            }
+
+            final String key = item.keyName();
+            assertTrue(key + " is neither read by ConfigSnapshot nor listed in NOT_IN_SNAPSHOT",
+                    ConfigSnapshot.readsKey(key) != NOT_IN_SNAPSHOT.contains(key));
+        }
+    }
+
+    @Test
+    public void pluginStateKeysAreNotRead()
+    {
+        for (String key : new String[]{"myList", "materialItemIds", "bankMaterials", "lastSeenChangelogVersion"})
+        {
+            assertFalse(key, ConfigSnapshot.readsKey(key));
+        }
+    }
+}